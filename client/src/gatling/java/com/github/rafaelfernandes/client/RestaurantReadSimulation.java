@@ -0,0 +1,85 @@
+package com.github.rafaelfernandes.client;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.Duration;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.header;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/**
+ * Closed-model read load in steps of concurrent users, to compare how latency and throughput scale with and without
+ * the virtual thread profile: -Dusers (final concurrency), -Dsteps, -DstepSeconds and -DbaseUrl. Gatling caches
+ * like a client would, so repeated reads are revalidated with If-None-Match and may come back as 304.
+ */
+public class RestaurantReadSimulation extends Simulation {
+
+    private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8080");
+
+    private static final int USERS = Integer.getInteger("users", 800);
+
+    private static final int STEPS = Integer.getInteger("steps", 4);
+
+    private static final Duration STEP_DURATION = Duration.ofSeconds(Integer.getInteger("stepSeconds", 30));
+
+    private static final String RESTAURANT = """
+            {
+              "name": "Restaurante #{randomUuid()}",
+              "tables": 10,
+              "address": {
+                "street": "Avenida Paulista",
+                "number": 1000,
+                "addittionalDetails": "Loja 1",
+                "neighborhood": "Bela Vista",
+                "city": "São Paulo",
+                "state": "SP"
+              },
+              "openingHours": [
+                {"dayOfWeek": "MONDAY", "start": "09:00:00", "end": "18:00:00"},
+                {"dayOfWeek": "TUESDAY", "start": "09:00:00", "end": "18:00:00"},
+                {"dayOfWeek": "WEDNESDAY", "start": "09:00:00", "end": "18:00:00"},
+                {"dayOfWeek": "THURSDAY", "start": "09:00:00", "end": "18:00:00"},
+                {"dayOfWeek": "FRIDAY", "start": "09:00:00", "end": "18:00:00"},
+                {"dayOfWeek": "SATURDAY", "start": "09:00:00", "end": "18:00:00"},
+                {"dayOfWeek": "SUNDAY", "start": "09:00:00", "end": "18:00:00"}
+              ],
+              "cuisines": [{"cuisine": "BRAZILIAN"}]
+            }
+            """;
+
+    private final HttpProtocolBuilder httpProtocol = http
+            .baseUrl(BASE_URL)
+            .contentTypeHeader("application/json")
+            .acceptHeader("application/json");
+
+    private final ScenarioBuilder reads = scenario("Restaurant reads")
+            .exec(http("create")
+                    .post("/restaurants/")
+                    .body(StringBody(RESTAURANT))
+                    .check(status().is(201), header("Location").saveAs("location")))
+            .forever().on(
+                    exec(http("find by id")
+                            .get("#{location}")
+                            .check(status().in(200, 304)))
+                    .exec(http("search by cuisine")
+                            .get("/restaurants/?cuisines=BRAZILIAN&size=20")
+                            .check(status().in(200, 304)))
+            );
+
+    {
+        setUp(reads.injectClosed(
+                incrementConcurrentUsers(USERS / STEPS)
+                        .times(STEPS)
+                        .eachLevelLasting(STEP_DURATION)
+                        .startingFrom(0)
+        ))
+                .protocols(httpProtocol)
+                .maxDuration(STEP_DURATION.multipliedBy(STEPS))
+                .assertions(global().failedRequests().percent().lt(1.0));
+    }
+
+}
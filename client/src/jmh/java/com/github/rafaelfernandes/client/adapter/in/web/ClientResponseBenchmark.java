@@ -0,0 +1,48 @@
+package com.github.rafaelfernandes.client.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.rafaelfernandes.client.adapter.in.web.response.ClientResponse;
+import com.github.rafaelfernandes.client.application.domain.model.Client;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import util.GenerateData;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientResponseBenchmark {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private Client restaurant;
+
+    private ClientResponse response;
+
+    @Setup
+    public void setUp() {
+        restaurant = GenerateData.createRestaurant();
+        response = ClientController.getRestaurantResponse(restaurant);
+    }
+
+    @Benchmark
+    public ClientResponse getRestaurantResponse() {
+        return ClientController.getRestaurantResponse(restaurant);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ClientController.getRestaurantResponse(restaurant));
+    }
+
+}
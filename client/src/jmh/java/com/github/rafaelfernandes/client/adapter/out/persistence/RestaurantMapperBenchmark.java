@@ -0,0 +1,39 @@
+package com.github.rafaelfernandes.client.adapter.out.persistence;
+
+import com.github.rafaelfernandes.client.application.domain.model.Client;
+import org.openjdk.jmh.annotations.*;
+import util.GenerateData;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestaurantMapperBenchmark {
+
+    private final RestaurantMapper mapper = new RestaurantMapper();
+
+    private Client restaurant;
+
+    private RestaurantJpaEntity restaurantEntity;
+
+    @Setup
+    public void setUp() {
+        restaurant = GenerateData.createRestaurant();
+        restaurantEntity = mapper.toCreateEntity(restaurant);
+    }
+
+    @Benchmark
+    public RestaurantJpaEntity toCreateEntity() {
+        return mapper.toCreateEntity(restaurant);
+    }
+
+    @Benchmark
+    public Client toModel() {
+        return mapper.toModel(restaurantEntity);
+    }
+
+}
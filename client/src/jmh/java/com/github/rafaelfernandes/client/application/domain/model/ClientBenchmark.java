@@ -0,0 +1,72 @@
+package com.github.rafaelfernandes.client.application.domain.model;
+
+import org.openjdk.jmh.annotations.*;
+import util.GenerateData;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction cost of the model, dominated by {@code Validation.validate} on every value object.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientBenchmark {
+
+    private Client restaurant;
+
+    private String restaurantId;
+
+    @Setup
+    public void setUp() {
+        restaurant = GenerateData.createRestaurant();
+        restaurantId = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public Client newClient() {
+        return new Client(restaurant.getName(), restaurant.getAddress(), restaurant.getOpeningHours(),
+                restaurant.getCuisines(), restaurant.getTables());
+    }
+
+    @Benchmark
+    public Client clientOf() {
+        return Client.of(restaurantId, restaurant.getName(), restaurant.getAddress(), restaurant.getRegister(),
+                restaurant.getOpeningHours(), restaurant.getTables(), restaurant.getCuisines());
+    }
+
+    @Benchmark
+    public Client.Address newAddress() {
+        var address = restaurant.getAddress();
+
+        return new Client.Address(address.getStreet(), address.getNumber(), address.getAddittionalDetails(),
+                address.getNeighborhood(), address.getCity(), address.getState());
+    }
+
+    @Benchmark
+    public Client.OpeningHour newOpeningHour() {
+        return new Client.OpeningHour("MONDAY", LocalTime.of(9, 0), LocalTime.of(18, 0));
+    }
+
+    @Benchmark
+    public Client.Cuisine newCuisine() {
+        return new Client.Cuisine("BRAZILIAN");
+    }
+
+    @Benchmark
+    public Client.RestaurantId newRestaurantId() {
+        return Client.RestaurantId.of(restaurantId);
+    }
+
+    @Benchmark
+    public List<Client.OpeningHour> newWeekOfOpeningHours() {
+        return GenerateData.createDefaultOpeningHours();
+    }
+
+}
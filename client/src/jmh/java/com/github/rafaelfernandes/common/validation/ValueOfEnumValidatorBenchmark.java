@@ -0,0 +1,47 @@
+package com.github.rafaelfernandes.common.validation;
+
+import com.github.rafaelfernandes.common.enums.Cuisine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Enum membership as {@link ValueOfEnumValidator} checks it, against the linear list scan it used to do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValueOfEnumValidatorBenchmark {
+
+    @Param({"AMERICAN", "VEGETARIAN_VEGAN", "UNKNOWN"})
+    public String cuisine;
+
+    @Param({"AC", "TO"})
+    public String state;
+
+    private List<String> cuisineList;
+
+    private List<String> stateList;
+
+    @Setup
+    public void setUp() {
+        cuisineList = Stream.of(Cuisine.values()).map(Enum::name).toList();
+        stateList = Stream.of(com.github.rafaelfernandes.common.enums.State.values()).map(Enum::name).toList();
+    }
+
+    @Benchmark
+    public boolean listContains() {
+        return cuisineList.contains(cuisine.toString()) & stateList.contains(state.toString());
+    }
+
+    @Benchmark
+    public boolean accepts() {
+        return ValueOfEnumValidator.accepts(Cuisine.class, cuisine) & ValueOfEnumValidator.accepts(com.github.rafaelfernandes.common.enums.State.class, state);
+    }
+
+}
@@ -1,12 +1,20 @@
 package com.github.rafaelfernandes.client.adapter.in.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.rafaelfernandes.common.response.ErrorResponse;
 import com.github.rafaelfernandes.client.adapter.in.web.request.ClientRequest;
 import com.github.rafaelfernandes.client.adapter.in.web.response.*;
 import com.github.rafaelfernandes.client.application.port.in.*;
 import com.github.rafaelfernandes.common.annotations.WebAdapter;
 import com.github.rafaelfernandes.client.application.domain.model.Client;
+import com.github.rafaelfernandes.client.application.domain.model.CreateResult;
+import com.github.rafaelfernandes.client.application.domain.model.NearbySearch;
+import com.github.rafaelfernandes.client.application.domain.model.Pagination;
+import com.github.rafaelfernandes.client.application.domain.model.RestaurantVersion;
+import com.github.rafaelfernandes.client.application.domain.model.SearchCriteria;
 import com.github.rafaelfernandes.common.enums.Cuisine;
+import com.github.rafaelfernandes.common.enums.CuisineMatch;
+import com.github.rafaelfernandes.common.enums.OrderBy;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.headers.Header;
@@ -15,19 +23,26 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @WebAdapter
 @RestController
@@ -36,8 +51,20 @@ import java.util.UUID;
 @Tag(name = "01 - Restaurant", description = "Restaurant Endpoint")
 public class ClientController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final int EXPORT_FLUSH_EVERY = 500;
+
+    static final int MAX_BATCH_SIZE = 1000;
+
     private final ManageRestaurantUseCase useCase;
 
+    private final ObjectMapper objectMapper;
+
+    private final ClientResponseRenderer renderer;
+
+    private final Clock clock;
+
     @Operation(summary = "Create a Restaurant")
     @ApiResponses(value = {
             @ApiResponse(description = "Success", responseCode = "201", headers = {@Header(name = "/restaurant/id", description = "Location of restaurant")}),
@@ -50,30 +77,103 @@ public class ClientController {
     ResponseEntity<Void> create(
             @Parameter @RequestBody final ClientRequest request, UriComponentsBuilder uriComponentsBuilder) {
 
+        var retaurantId = this.useCase.create(toClient(request));
+
+        URI location = uriComponentsBuilder
+                .path("restaurants/{id}")
+                .buildAndExpand(retaurantId.id())
+                .toUri();
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .header(HttpHeaders.LOCATION, location.toASCIIString())
+                .build();
+
+    }
+
+    @Operation(summary = "Create Restaurants in batch")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    description = "Success, with the result of each Restaurant", responseCode = "200",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ClientBatchResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    description = "Bad request", responseCode = "400",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping(
+            path = "/batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<List<ClientBatchResponse>> createAll(@Parameter @RequestBody final List<ClientRequest> requests) {
+
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BATCH_SIZE)
+            throw new ValidationException("O lote deve ter entre 1 e " + MAX_BATCH_SIZE + " restaurantes");
+
+        var results = new CreateResult[requests.size()];
+        var restaurants = new ArrayList<Client>(requests.size());
+        var positions = new ArrayList<Integer>(requests.size());
+
+        for (int index = 0; index < requests.size(); index++) {
+            try {
+                restaurants.add(toClient(requests.get(index)));
+                positions.add(index);
+            } catch (ValidationException e) {
+                results[index] = CreateResult.invalid(e.getMessage());
+            }
+        }
+
+        var created = useCase.createAll(restaurants);
+
+        for (int position = 0; position < positions.size(); position++) {
+            results[positions.get(position)] = created.get(position);
+        }
+
+        var response = new ArrayList<ClientBatchResponse>(results.length);
+
+        for (int index = 0; index < results.length; index++) {
+            response.add(getBatchResponse(index, results[index]));
+        }
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(response);
+
+    }
+
+    private static Client toClient(ClientRequest request) {
+
         var addressModel = new Client.Address(
                 request.address().street(),
                 request.address().number(),
                 request.address().addittionalDetails(),
                 request.address().neighborhood(),
                 request.address().city(),
-                request.address().state()
+                request.address().state(),
+                request.address().latitude(),
+                request.address().longitude()
         );
 
-        var restaurantModel = new Client(
-                request.name(), addressModel, openinHours, cuisines, request.tables()
-        );
+        var openingHours = request.openingHours() == null ? null : request.openingHours().stream()
+                .map(openingHour -> new Client.OpeningHour(openingHour.dayOfWeek(), openingHour.start(), openingHour.end()))
+                .toList();
 
-        var retaurantId = this.useCase.create(restaurantModel);
+        var cuisines = request.cuisines() == null ? null : request.cuisines().stream()
+                .map(cuisine -> new Client.Cuisine(cuisine.cuisine()))
+                .toList();
 
-        URI location = uriComponentsBuilder
-                .path("restaurants/{id}")
-                .buildAndExpand(retaurantId.id())
-                .toUri();
+        var restaurantModel = new Client(
+                request.name(), addressModel, openingHours, cuisines, request.tables()
+        );
 
-        return ResponseEntity
-                .status(HttpStatus.CREATED)
-                .header(HttpHeaders.LOCATION, location.toASCIIString())
-                .build();
+        return restaurantModel;
 
     }
 
@@ -86,6 +186,7 @@ public class ClientController {
                             schema = @Schema(implementation = ClientResponse.class)
                     )
             ),
+            @ApiResponse(description = "Not modified", responseCode = "304"),
             @ApiResponse(
                     description = "Bad request", responseCode = "400",
                     content = @Content(
@@ -104,17 +205,27 @@ public class ClientController {
     @GetMapping(path = "/{restaurantId}",
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE)
-    ResponseEntity<ClientResponse> getById(@PathVariable final String restaurantId){
+    ResponseEntity<byte[]> getById(@PathVariable final String restaurantId, final WebRequest webRequest){
 
-        var restaurantIdModel = new Client.RestaurantId(restaurantId);
+        var restaurantIdModel = Client.RestaurantId.of(restaurantId);
 
-        var restaurantData = useCase.findById(restaurantIdModel);
+        // rendered bodies are cached per version, so the stamp is read on every request, not only conditional ones
+        var version = useCase.findVersionById(restaurantIdModel);
 
-        var response = getRestaurantResponse(restaurantData);
+        // checkNotModified has already written the 304 and its validators
+        if (isConditional(webRequest) &&
+                webRequest.checkNotModified(RestaurantETags.of(version), RestaurantETags.lastModified(version))) return null;
 
-        return ResponseEntity
+        var response = renderer.render(version);
+
+        var builder = ResponseEntity
                 .status(HttpStatus.OK)
-                .body(response);
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(response.eTag());
+
+        if (response.lastModified() >= 0) builder.lastModified(response.lastModified());
+
+        return builder.body(response.body());
     }
 
 
@@ -122,11 +233,13 @@ public class ClientController {
     @ApiResponses(value = {
             @ApiResponse(
                     description = "Success", responseCode = "200",
+                    headers = {@Header(name = NEXT_CURSOR_HEADER, description = "Cursor of the next page, absent on the last page")},
                     content = @Content(
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ClientResponse.class)
                     )
             ),
+            @ApiResponse(description = "Not modified", responseCode = "304"),
             @ApiResponse(
                     description = "Bad request", responseCode = "400",
                     content = @Content(
@@ -148,28 +261,187 @@ public class ClientController {
     ResponseEntity<List<ClientResponse>> getAllBy(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String location,
-            @RequestParam(required = false) List<String> cuisines ){
+            @RequestParam(required = false) List<String> cuisines,
+            @RequestParam(required = false, defaultValue = "ALL") CuisineMatch cuisineMatch,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt,
+            @RequestParam(required = false, defaultValue = "false") boolean openNow,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false, defaultValue = "ASC") OrderBy orderBy,
+            final WebRequest webRequest ){
 
-        var cuisinesEnum = (cuisines == null || cuisines.isEmpty()) ? new ArrayList<Cuisine>() :
-                cuisines.stream()
-                .map(Cuisine::valueOf)
-                .toList();
+        var criteria = new SearchCriteria(name, location, toCuisines(cuisines), cuisineMatch, toOpenAt(openAt, openNow, clock));
+        var pagination = new Pagination(cursor, size, orderBy);
+
+        if (isConditional(webRequest)) {
+
+            var versionPage = useCase.findVersionsBy(criteria, pagination);
+            var versions = versionPage.versions();
+
+            // checkNotModified has already written the 304 and its validators
+            if (!versionPage.isEmpty() &&
+                    webRequest.checkNotModified(RestaurantETags.of(versions, versionPage.nextCursor()),
+                            RestaurantETags.lastModified(versions))) return null;
+        }
 
-        var restaurants = useCase.findAllBy(name, location, cuisinesEnum);
+        var page = useCase.findAllBy(criteria, pagination);
 
-        var restaurantsData = restaurants.stream()
+        var restaurantsData = page.clients().stream()
                 .map(ClientController::getRestaurantResponse)
                 .toList();
 
+        var versions = page.clients().stream()
+                .map(RestaurantVersion::of)
+                .toList();
+
+        var response = ResponseEntity.status(HttpStatus.OK)
+                .eTag(RestaurantETags.of(versions, page.nextCursor()));
+
+        var lastModified = RestaurantETags.lastModified(versions);
+
+        if (lastModified >= 0) response.lastModified(lastModified);
+
+        if (page.hasNext()) response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+
+        return response.body(restaurantsData);
+
+
+
+    }
+
+    @Operation(summary = "Search the Restaurants nearest to a point, closest first",
+            description = "Answered from an index each instance keeps in memory and catches up every client.nearby.refresh. " +
+                    "A restaurant created or moved through another instance can be missing until then; " +
+                    "one deleted or moved away is never returned.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    description = "Success", responseCode = "200",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ClientResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    description = "Bad request", responseCode = "400",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    description = "Not found", responseCode = "404",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping(path = "/nearby",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<List<ClientResponse>> getNearby(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(required = false) Double radius,
+            @RequestParam(required = false) Integer size ){
+
+        var restaurants = useCase.findNearby(new NearbySearch(latitude, longitude, radius, size));
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(restaurants.stream()
+                        .map(ClientController::getRestaurantResponse)
+                        .toList());
+
+    }
+
+    @Operation(summary = "Export Restaurant search as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    description = "Success", responseCode = "200",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = ClientResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    description = "Bad request", responseCode = "400",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping(path = "/export",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    ResponseEntity<StreamingResponseBody> exportAllBy(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) List<String> cuisines,
+            @RequestParam(required = false, defaultValue = "ALL") CuisineMatch cuisineMatch,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt,
+            @RequestParam(required = false, defaultValue = "false") boolean openNow ){
+
+        var criteria = new SearchCriteria(name, location, toCuisines(cuisines), cuisineMatch, toOpenAt(openAt, openNow, clock))
+                .requireAnyFilter();
+
+        StreamingResponseBody body = outputStream -> {
+
+            try (var generator = objectMapper.getFactory().createGenerator(outputStream)) {
+
+                var written = new int[]{0};
+
+                useCase.exportAllBy(criteria, restaurant -> {
+                    try {
+                        generator.writeObject(getRestaurantResponse(restaurant));
+                        generator.writeRaw('\n');
+
+                        if (++written[0] == 1 || written[0] % EXPORT_FLUSH_EVERY == 0) generator.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(restaurantsData);
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private static boolean isConditional(WebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null ||
+                webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    /**
+     * An explicit {@code openAt} wins over {@code openNow}, which reads {@code clock} in the zone of the opening hours
+     * ({@code client.business-zone}), not in the server's.
+     */
+    static LocalDateTime toOpenAt(LocalDateTime openAt, boolean openNow, Clock clock) {
+        return openAt != null || !openNow ? openAt : LocalDateTime.now(clock);
+    }
+
+    static List<Cuisine> toCuisines(List<String> cuisines) {
+        return (cuisines == null || cuisines.isEmpty()) ? new ArrayList<Cuisine>() :
+                cuisines.stream()
+                .map(Cuisine::valueOf)
+                .toList();
+    }
+
+    private static ClientBatchResponse getBatchResponse(int index, CreateResult result) {
 
+        var status = switch (result.status()) {
+            case CREATED -> HttpStatus.CREATED;
+            case INVALID -> HttpStatus.BAD_REQUEST;
+            case DUPLICATE -> HttpStatus.CONFLICT;
+        };
 
+        var id = result.restaurantId() == null ? null : result.restaurantId().id();
 
+        return new ClientBatchResponse(index, status.value(), id, result.error());
     }
 
-    private static ClientResponse getRestaurantResponse(Client restaurant){
+    static ClientResponse getRestaurantResponse(Client restaurant){
         return getRestaurantResponse(Optional.ofNullable(restaurant));
     }
 
@@ -181,7 +453,9 @@ public class ClientController {
                 restaurantData.get().getAddress().getAddittionalDetails(),
                 restaurantData.get().getAddress().getNeighborhood(),
                 restaurantData.get().getAddress().getCity(),
-                restaurantData.get().getAddress().getState()
+                restaurantData.get().getAddress().getState(),
+                restaurantData.get().getAddress().getLatitude(),
+                restaurantData.get().getAddress().getLongitude()
         );
 
 
@@ -199,7 +473,7 @@ public class ClientController {
                 .toList();
 
         return new ClientResponse(
-                UUID.fromString(restaurantData.get().getRestaurantId().id()),
+                restaurantData.get().getRestaurantId().id(),
                 restaurantData.get().getName(),
                 addressResponse,
                 restaurantData.get().getTables(),
@@ -0,0 +1,49 @@
+package com.github.rafaelfernandes.client.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.rafaelfernandes.client.application.domain.model.RestaurantVersion;
+import com.github.rafaelfernandes.client.application.port.in.ManageRestaurantUseCase;
+import com.github.rafaelfernandes.common.cache.CacheNames;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+
+/**
+ * Keeps the final UTF-8 JSON of hot restaurants, so a cache hit skips both the response mapping and Jackson.
+ * <p>
+ * Entries are keyed by the version stamp they were rendered for. A write changes the stamp, so the next read misses
+ * and the old bytes age out on their own: nothing outside the web adapter has to evict them, and a read racing a
+ * commit can only file the bytes it loaded under the stamp it read, never under the new one.
+ */
+@Component
+@RequiredArgsConstructor
+class ClientResponseRenderer {
+
+    private final ManageRestaurantUseCase useCase;
+
+    private final ObjectMapper objectMapper;
+
+    @Cacheable(cacheNames = CacheNames.RESTAURANT_RESPONSES, key = "#version")
+    public RenderedResponse render(RestaurantVersion version) {
+
+        var restaurant = useCase.findById(version.restaurantId());
+
+        try {
+            var body = objectMapper.writeValueAsBytes(ClientController.getRestaurantResponse(restaurant));
+
+            // the stamp of what was loaded, which a concurrent write may have made newer than the key
+            var rendered = RestaurantVersion.of(restaurant);
+
+            return new RenderedResponse(body, RestaurantETags.of(rendered), RestaurantETags.lastModified(rendered));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    record RenderedResponse(byte[] body, String eTag, long lastModified) {
+    }
+
+}
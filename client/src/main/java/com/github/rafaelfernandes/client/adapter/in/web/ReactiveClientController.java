@@ -0,0 +1,137 @@
+package com.github.rafaelfernandes.client.adapter.in.web;
+
+import com.github.rafaelfernandes.common.response.ErrorResponse;
+import com.github.rafaelfernandes.client.adapter.in.web.response.ClientResponse;
+import com.github.rafaelfernandes.client.application.port.in.ReactiveManageRestaurantUseCase;
+import com.github.rafaelfernandes.common.annotations.WebAdapter;
+import com.github.rafaelfernandes.client.application.domain.model.Client;
+import com.github.rafaelfernandes.client.application.domain.model.Pagination;
+import com.github.rafaelfernandes.client.application.domain.model.SearchCriteria;
+import com.github.rafaelfernandes.common.enums.CuisineMatch;
+import com.github.rafaelfernandes.common.enums.OrderBy;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read-only restaurant API backed by the reactive port. The request thread is released as soon as the query is
+ * issued and the response is written when the database answers.
+ */
+@WebAdapter
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/reactive/restaurants")
+@Tag(name = "02 - Reactive Restaurant", description = "Non-blocking Restaurant read Endpoint")
+public class ReactiveClientController {
+
+    private final ReactiveManageRestaurantUseCase useCase;
+
+    private final Clock clock;
+
+    @Operation(summary = "Get a restaurant by ID")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    description = "Success", responseCode = "200",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ClientResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    description = "Bad request", responseCode = "400",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    description = "Not found", responseCode = "404",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping(path = "/{restaurantId}",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    Mono<ResponseEntity<ClientResponse>> getById(@PathVariable final String restaurantId) {
+
+        var restaurantIdModel = Client.RestaurantId.of(restaurantId);
+
+        return useCase.findById(restaurantIdModel)
+                .map(restaurant -> ResponseEntity
+                        .status(HttpStatus.OK)
+                        .body(ClientController.getRestaurantResponse(restaurant)));
+    }
+
+    @Operation(summary = "Search Restaurant")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    description = "Success", responseCode = "200",
+                    headers = {@Header(name = ClientController.NEXT_CURSOR_HEADER, description = "Cursor of the next page, absent on the last page")},
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ClientResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    description = "Bad request", responseCode = "400",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    description = "Not found", responseCode = "404",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping(path = "/",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    Mono<ResponseEntity<List<ClientResponse>>> getAllBy(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) List<String> cuisines,
+            @RequestParam(required = false, defaultValue = "ALL") CuisineMatch cuisineMatch,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt,
+            @RequestParam(required = false, defaultValue = "false") boolean openNow,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false, defaultValue = "ASC") OrderBy orderBy ){
+
+        var criteria = new SearchCriteria(name, location, ClientController.toCuisines(cuisines), cuisineMatch,
+                ClientController.toOpenAt(openAt, openNow, clock));
+        var pagination = new Pagination(cursor, size, orderBy);
+
+        return useCase.findAllBy(criteria, pagination)
+                .map(page -> {
+
+                    var response = ResponseEntity.status(HttpStatus.OK);
+
+                    if (page.hasNext()) response.header(ClientController.NEXT_CURSOR_HEADER, page.nextCursor());
+
+                    return response.body(page.clients().stream()
+                            .map(ClientController::getRestaurantResponse)
+                            .toList());
+                });
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.github.rafaelfernandes.client.adapter.in.web;
+
+import com.github.rafaelfernandes.client.application.domain.model.RestaurantVersion;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Validators for conditional reads, derived from the stored versions only, so they can be checked without
+ * loading or rendering a restaurant.
+ */
+final class RestaurantETags {
+
+    private RestaurantETags() {
+    }
+
+    static String of(RestaurantVersion version) {
+        return "\"" + version.version() + "\"";
+    }
+
+    /**
+     * Tag of a search page: its rows' versions and the cursor it points on with, since a page whose rows are
+     * unchanged still differs once a later row gives it a next page.
+     */
+    static String of(List<RestaurantVersion> versions, String nextCursor) {
+
+        var stamp = new StringBuilder();
+
+        versions.forEach(version -> stamp
+                .append(version.restaurantId().id())
+                .append(':')
+                .append(version.version())
+                .append(';'));
+
+        if (nextCursor != null) stamp.append("next:").append(nextCursor);
+
+        return "\"" + DigestUtils.md5DigestAsHex(stamp.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Epoch millis of the most recent change, or {@code -1} when none is known.
+     */
+    static long lastModified(List<RestaurantVersion> versions) {
+        return versions.stream()
+                .map(RestaurantVersion::lastModified)
+                .filter(Objects::nonNull)
+                .mapToLong(lastModified -> lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .max()
+                .orElse(-1L);
+    }
+
+    static long lastModified(RestaurantVersion version) {
+        return lastModified(List.of(version));
+    }
+
+}
@@ -10,13 +10,17 @@ public record ClientRequest(
         @Schema(description = "Name of client")
         String name,
 
-        @Schema(description = "Email of client")
-        String email,
-
         @Schema(name = "address", description = "Address of client")
-        AddressRequest address
+        AddressRequest address,
+
+        @Schema(description = "Number of tables of client", minimum = "1")
+        Integer tables,
 
+        @Schema(name = "openingHours", description = "Opening hours of client")
+        List<OpeningHourRequest> openingHours,
 
+        @Schema(name = "cuisines", description = "Cuisines of client")
+        List<CuisineRequest> cuisines
 
 ) {
 }
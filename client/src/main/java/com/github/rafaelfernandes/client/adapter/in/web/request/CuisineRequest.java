@@ -0,0 +1,11 @@
+package com.github.rafaelfernandes.client.adapter.in.web.request;
+
+import com.github.rafaelfernandes.common.enums.Cuisine;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record CuisineRequest(
+
+        @Schema(implementation = Cuisine.class)
+        String cuisine
+) {
+}
@@ -0,0 +1,19 @@
+package com.github.rafaelfernandes.client.adapter.in.web.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+public record OpeningHourRequest(
+
+        @Schema(implementation = DayOfWeek.class)
+        String dayOfWeek,
+
+        @Schema(type = "string", format = "time", example = "09:00:00")
+        LocalTime start,
+
+        @Schema(type = "string", format = "time", example = "18:00:00")
+        LocalTime end
+) {
+}
@@ -5,8 +5,6 @@ import io.swagger.v3.oas.annotations.media.Schema;
 
 public record AddressResponse(
 
-        @Schema
-        String zip_code,
         @Schema(minimum = "10", maximum = "150")
         String street,
 
@@ -23,6 +21,12 @@ public record AddressResponse(
         String city,
 
         @Schema(implementation = State.class)
-        String state
+        String state,
+
+        @Schema(nullable = true, minimum = "-90", maximum = "90")
+        Double latitude,
+
+        @Schema(nullable = true, minimum = "-180", maximum = "180")
+        Double longitude
 ) {
 }
@@ -0,0 +1,23 @@
+package com.github.rafaelfernandes.client.adapter.in.web.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(name = "ClientBatchResponse", description = "Result of one Client of a batch")
+public record ClientBatchResponse(
+
+        @Schema(description = "Position of the Client in the request")
+        int index,
+
+        @Schema(description = "HTTP status the Client would have had if created alone")
+        int status,
+
+        @Schema(nullable = true, description = "Id of the created Client")
+        UUID id,
+
+        @Schema(nullable = true, description = "Reason the Client was not created")
+        String error
+
+) {
+}
@@ -15,7 +15,16 @@ public record ClientResponse(
         String name,
 
         @Schema(name = "address", description = "address of Client")
-        AddressResponse address
+        AddressResponse address,
+
+        @Schema(description = "Number of tables of Client")
+        Integer tables,
+
+        @Schema(name = "openingHours", description = "opening hours of Client")
+        List<OpeningHourResponse> openingHours,
+
+        @Schema(name = "cuisines", description = "cuisines of Client")
+        List<CuisineResponse> cuisines
 
 ) {
 }
@@ -0,0 +1,11 @@
+package com.github.rafaelfernandes.client.adapter.in.web.response;
+
+import com.github.rafaelfernandes.common.enums.Cuisine;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record CuisineResponse(
+
+        @Schema(implementation = Cuisine.class)
+        String cuisine
+) {
+}
@@ -15,7 +15,7 @@ import java.util.UUID;
 public class AddressJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @Column(name = "street", nullable = false)
@@ -36,6 +36,12 @@ public class AddressJpaEntity {
     @Column(name = "state", nullable = false)
     private String state;
 
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @OneToOne(mappedBy = "address")
     private RestaurantJpaEntity restaurant;
 
@@ -15,7 +15,7 @@ import java.util.UUID;
 public class CuisineJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @Column(name = "cusine")
@@ -0,0 +1,40 @@
+package com.github.rafaelfernandes.client.adapter.out.persistence;
+
+import com.github.rafaelfernandes.common.enums.Cuisine;
+
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Packs a set of {@link Cuisine} values into one 64-bit word, one bit per ordinal.
+ * The mask is persisted, so new cuisines must be appended to the end of the enum.
+ */
+final class CuisineMask {
+
+    static {
+        if (Cuisine.values().length > Long.SIZE) {
+            throw new IllegalStateException("Cuisine has more values than fit in a long mask");
+        }
+    }
+
+    private CuisineMask() {
+    }
+
+    static long of(Collection<Cuisine> cuisines) {
+
+        if (cuisines == null) return 0L;
+
+        long mask = 0L;
+
+        for (Cuisine cuisine : cuisines) {
+            mask |= 1L << cuisine.ordinal();
+        }
+
+        return mask;
+    }
+
+    static long of(String cuisine) {
+        return 1L << Cuisine.valueOf(cuisine.toUpperCase(Locale.ROOT)).ordinal();
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.github.rafaelfernandes.client.adapter.out.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * One interval of a restaurant's weekly schedule in minutes of the week, kept only so that open-at searches can
+ * range scan the starts of a single day.
+ */
+@Entity
+@Table(name = "opening_interval",
+        indexes = {
+            @Index(name = "idx_opening_interval_start", columnList = "start_minute, end_minute, restaurant_id")
+        }
+    )
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OpeningIntervalJpaEntity {
+
+    @Id
+    @TimeOrderedId
+    private UUID id;
+
+    @Column(name = "start_minute", nullable = false)
+    private int startMinute;
+
+    @Column(name = "end_minute", nullable = false)
+    private int endMinute;
+
+    @ManyToOne
+    @JoinColumn(name = "restaurant_id", referencedColumnName = "id")
+    private RestaurantJpaEntity restaurant;
+
+}
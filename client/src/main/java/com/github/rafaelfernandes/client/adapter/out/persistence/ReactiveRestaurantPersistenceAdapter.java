@@ -0,0 +1,162 @@
+package com.github.rafaelfernandes.client.adapter.out.persistence;
+
+import com.github.rafaelfernandes.client.application.domain.model.Client;
+import com.github.rafaelfernandes.client.application.domain.model.ClientPage;
+import com.github.rafaelfernandes.client.application.domain.model.Pagination;
+import com.github.rafaelfernandes.client.application.domain.model.SearchCriteria;
+import com.github.rafaelfernandes.client.application.domain.model.WeeklySchedule;
+import com.github.rafaelfernandes.client.application.port.out.ReactiveRestaurantPort;
+import com.github.rafaelfernandes.common.annotations.PersistenceAdapter;
+import com.github.rafaelfernandes.common.enums.CuisineMatch;
+import com.github.rafaelfernandes.common.enums.OrderBy;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Reads restaurants over R2DBC from the same read model and search index as {@link RestaurantPersistenceAdapter}:
+ * one query per lookup or page, so a request never holds a thread while waiting on the database.
+ */
+@PersistenceAdapter
+@RequiredArgsConstructor
+public class ReactiveRestaurantPersistenceAdapter implements ReactiveRestaurantPort {
+
+    private static final String SELECT_RESTAURANT = """
+            SELECT r.id, r.name, r.register, r.tables, r.version, r.last_modified, r.latitude, r.longitude,
+                   r.weekly_schedule, r.payload
+            FROM restaurant_view r
+            """;
+
+    private final ReactiveSqlClient reactiveSqlClient;
+
+    @Override
+    public Mono<Client> findById(Client.RestaurantId id) {
+
+        return reactiveSqlClient.query(SELECT_RESTAURANT + "WHERE r.id = $1", List.of(id.id()),
+                        ReactiveRestaurantPersistenceAdapter::toModel)
+                .singleOrEmpty();
+
+    }
+
+    @Override
+    public Mono<ClientPage> findAllBy(SearchCriteria criteria, Pagination pagination) {
+
+        var query = RestaurantSearchQuery.of(criteria, KeysetCursor.decode(pagination.cursor()), pagination.orderBy(), pagination.size() + 1);
+
+        if (query == null) return Mono.just(new ClientPage(new ArrayList<>(), null));
+
+        return select(query)
+                .collectList()
+                .map(restaurants -> {
+
+                    var hasNext = restaurants.size() > pagination.size();
+                    var page = hasNext ? restaurants.subList(0, pagination.size()) : restaurants;
+
+                    var nextCursor = hasNext ? KeysetCursor.encode(page.get(page.size() - 1).getName()) : null;
+
+                    return new ClientPage(page, nextCursor);
+                });
+
+    }
+
+    private Flux<Client> select(RestaurantSearchQuery search) {
+
+        var sql = new StringBuilder(SELECT_RESTAURANT);
+        var parameters = new Parameters();
+        var conditions = new ArrayList<String>();
+
+        var terms = search.terms();
+
+        if (terms != null && !terms.isEmpty()) {
+            conditions.add("r.id IN (SELECT t.restaurant_id FROM search_token t WHERE t.term IN " + parameters.in(terms) +
+                    " GROUP BY t.restaurant_id HAVING COUNT(DISTINCT t.term) = " + parameters.add((long) terms.size()) + ")");
+        }
+
+        if (search.openAt() != null) {
+
+            conditions.add("r.id IN (SELECT i.restaurant_id FROM opening_interval i WHERE i.start_minute BETWEEN " +
+                    parameters.add(search.openAtDayStart()) + " AND " + parameters.add(search.openAt()) +
+                    " AND i.end_minute > " + parameters.add(search.openAt()) + ")");
+        }
+
+        if (search.cuisineMask() != 0L) {
+
+            // the cast gives the driver a type for the marker inside the function call; like the JPA search, this
+            // predicate is checked row by row, no index serves it
+            var cuisineMask = "CAST(" + parameters.add(search.cuisineMask()) + " AS BIGINT)";
+
+            conditions.add(search.cuisineMatch() == CuisineMatch.ANY ?
+                    "BITAND(r.cuisine_mask, " + cuisineMask + ") <> 0" :
+                    "BITAND(r.cuisine_mask, " + cuisineMask + ") = " + cuisineMask);
+        }
+
+        var descending = search.orderBy() == OrderBy.DESC;
+
+        if (search.afterName() != null) {
+            conditions.add((descending ? "r.name < " : "r.name > ") + parameters.add(search.afterName()));
+        }
+
+        if (!conditions.isEmpty()) sql.append("WHERE ").append(String.join(" AND ", conditions)).append('\n');
+
+        sql.append("ORDER BY r.name ").append(descending ? "DESC" : "ASC");
+
+        if (search.limit() > 0) sql.append(" LIMIT ").append(parameters.add(search.limit()));
+
+        return reactiveSqlClient.query(sql.toString(), parameters.values, ReactiveRestaurantPersistenceAdapter::toModel);
+    }
+
+    private static Client toModel(Readable row) {
+
+        var payload = RestaurantViewCodec.decode(row.get("payload", byte[].class));
+        var address = payload.address();
+
+        return Client.of(
+                new Client.RestaurantId(row.get("id", UUID.class)),
+                row.get("name", String.class),
+                Client.Address.restore(
+                        address.getStreet(),
+                        address.getNumber(),
+                        address.getAddittionalDetails(),
+                        address.getNeighborhood(),
+                        address.getCity(),
+                        address.getState(),
+                        row.get("latitude", Double.class),
+                        row.get("longitude", Double.class)),
+                row.get("register", LocalDateTime.class),
+                WeeklySchedule.fromBytes(row.get("weekly_schedule", byte[].class)).toOpeningHours(),
+                row.get("tables", Integer.class),
+                payload.cuisines(),
+                row.get("version", Long.class),
+                row.get("last_modified", LocalDateTime.class)
+        );
+    }
+
+    /**
+     * Collects bound values and hands out their positional {@code $n} markers.
+     */
+    private static final class Parameters {
+
+        private final List<Object> values = new ArrayList<>();
+
+        String add(Object value) {
+            values.add(value);
+            return "$" + values.size();
+        }
+
+        String in(Collection<?> items) {
+            return items.stream()
+                    .map(this::add)
+                    .collect(Collectors.joining(", ", "(", ")"));
+        }
+
+    }
+
+}
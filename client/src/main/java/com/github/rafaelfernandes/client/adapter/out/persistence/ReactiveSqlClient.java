@@ -0,0 +1,74 @@
+package com.github.rafaelfernandes.client.adapter.out.persistence;
+
+import com.github.rafaelfernandes.common.metrics.StatementCounter;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Pooled R2DBC access to the same database the JPA adapter writes to. The pool is kept out of the context on
+ * purpose: a {@code ConnectionFactory} bean would make Spring Boot back off from configuring the JDBC
+ * {@code DataSource}.
+ */
+@Component
+class ReactiveSqlClient implements DisposableBean {
+
+    private final ConnectionPool connectionPool;
+
+    ReactiveSqlClient(@Value("${client.r2dbc.url}") String url,
+                      @Value("${client.r2dbc.username:}") String username,
+                      @Value("${client.r2dbc.password:}") String password,
+                      @Value("${client.r2dbc.pool.max-size:10}") int maxSize) {
+
+        var options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .maxSize(maxSize)
+                .build());
+    }
+
+    /**
+     * Runs {@code sql} with positional {@code $n} markers bound to {@code parameters}, releasing the connection
+     * once every row has been mapped. The statement counts for the request that assembled the query.
+     */
+    <T> Flux<T> query(String sql, List<?> parameters, Function<Readable, T> mapper) {
+
+        // taken now, on the request thread: the statement itself runs on whichever thread the pool hands it to
+        var countStatement = StatementCounter.capture();
+
+        return Flux.usingWhen(connectionPool.create(),
+                connection -> {
+
+                    countStatement.run();
+
+                    var statement = connection.createStatement(sql);
+
+                    for (int index = 0; index < parameters.size(); index++) {
+                        statement.bind(index, parameters.get(index));
+                    }
+
+                    return Flux.from(statement.execute())
+                            .flatMap(result -> result.map(mapper));
+                },
+                Connection::close);
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+}
@@ -0,0 +1,327 @@
+package com.github.rafaelfernandes.client.adapter.out.persistence;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * In-process proximity index over the restaurants that have coordinates: the globe is cut into cells of
+ * {@link #CELL_DEGREES} and each cell holds the restaurants inside it. A search walks square rings of cells around
+ * the center, never past the cells the radius can reach, and stops as soon as no unvisited cell can hold anything
+ * closer than what was already found, so its cost depends on the restaurants around the point, not on how many are
+ * indexed.
+ * <p>
+ * The index is filled from {@code restaurant_view} on first use and then kept current by the adapter after each
+ * commit. Every instance holds its own copy, so restaurants written by another instance appear once the adapter
+ * catches it up with the rows changed since; until then the adapter checks every hit against the row it reads back.
+ */
+@Component
+class RestaurantGeoIndex {
+
+    static final double CELL_DEGREES = 0.05;
+
+    private static final int LATITUDE_CELLS = (int) Math.round(180 / CELL_DEGREES);
+
+    private static final int LONGITUDE_CELLS = (int) Math.round(360 / CELL_DEGREES);
+
+    private static final double EARTH_RADIUS_IN_KM = 6371.0088;
+
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_IN_KM / 180;
+
+    private final Map<Long, Set<Point>> cells = new ConcurrentHashMap<>();
+
+    private final Map<UUID, Point> points = new ConcurrentHashMap<>();
+
+    /**
+     * How far back each catch-up reads before the previous one started: rows are stamped before they commit, and
+     * by the clock of the instance that wrote them.
+     */
+    static final Duration CATCH_UP_OVERLAP = Duration.ofMinutes(5);
+
+    private final Lock loading = new ReentrantLock();
+
+    private volatile boolean loaded;
+
+    private volatile LocalDateTime caughtUpTo;
+
+    record Point(UUID id, double latitude, double longitude) {
+    }
+
+    /**
+     * Coordinates of a changed row, null when its address has none.
+     */
+    record Change(UUID id, Double latitude, Double longitude) {
+    }
+
+    private record Neighbor(UUID id, double distanceInKm) {
+    }
+
+    private record Box(int firstRow, int lastRow, int westColumns, int eastColumns) {
+
+        // one column short on the east, so the two sides meet at the antimeridian without visiting a column twice
+        static Box allColumns(int firstRow, int lastRow) {
+            return new Box(firstRow, lastRow, LONGITUDE_CELLS / 2, LONGITUDE_CELLS / 2 - 1);
+        }
+
+    }
+
+    /**
+     * Fills the index once, from the rows {@code source} streams; later calls return at once.
+     */
+    void loadIfEmpty(Supplier<Stream<Point>> source) {
+
+        if (loaded) return;
+
+        // a lock rather than a monitor: the load reads the database, which would pin a virtual thread's carrier
+        loading.lock();
+
+        try {
+
+            if (loaded) return;
+
+            caughtUpTo = now();
+
+            try (var stored = source.get()) {
+                stored.forEach(point -> put(point.id(), point.latitude(), point.longitude()));
+            }
+
+            loaded = true;
+        } finally {
+            loading.unlock();
+        }
+    }
+
+    /**
+     * Moves the restaurant to the point. The move runs inside the compute of its entry, so concurrent writes of one
+     * restaurant take turns and it never stays behind in a second cell; a search racing a move may still meet it in
+     * both cells, which {@link #nearest} allows for.
+     */
+    void put(UUID id, double latitude, double longitude) {
+
+        points.compute(id, (key, previous) -> {
+
+            if (previous != null) removeFromCell(previous);
+
+            var point = new Point(id, latitude, longitude);
+
+            cells.computeIfAbsent(cellOf(latitude, longitude), cell -> ConcurrentHashMap.newKeySet()).add(point);
+
+            return point;
+        });
+    }
+
+    void remove(UUID id) {
+
+        points.computeIfPresent(id, (key, previous) -> {
+            removeFromCell(previous);
+            return null;
+        });
+    }
+
+    /**
+     * Applies the rows {@code changedSince} streams for the start of the previous catch-up, or of the load, less
+     * {@link #CATCH_UP_OVERLAP}: a row with coordinates moves its restaurant there, one without takes it out. Its cost
+     * follows the writes since, not the size of the table. Does nothing before the first load, which reads every row.
+     * <p>
+     * Restaurants are only ever created, so a row read here never holds older coordinates than a put this instance
+     * made after its commit. A restaurant deleted by another instance stays until this one restarts; the adapter
+     * drops it from every answer, since its row is gone.
+     */
+    void catchUp(Function<LocalDateTime, Stream<Change>> changedSince) {
+
+        if (!loaded) return;
+
+        var since = caughtUpTo.minus(CATCH_UP_OVERLAP);
+
+        caughtUpTo = now();
+
+        try (var changes = changedSince.apply(since)) {
+            changes.forEach(change -> {
+                if (change.latitude() == null || change.longitude() == null) remove(change.id());
+                else put(change.id(), change.latitude(), change.longitude());
+            });
+        }
+    }
+
+    // the clock @UpdateTimestamp stamps last_modified with
+    private static LocalDateTime now() {
+        return LocalDateTime.now();
+    }
+
+    private void removeFromCell(Point point) {
+        cells.getOrDefault(cellOf(point.latitude(), point.longitude()), Set.of()).remove(point);
+    }
+
+    /**
+     * Ids of at most {@code limit} restaurants within {@code radiusInKm} of the point, closest first.
+     */
+    List<UUID> nearest(double latitude, double longitude, double radiusInKm, int limit) {
+
+        var nearest = new Nearest(limit);
+
+        var centerRow = row(latitude);
+        var centerColumn = column(longitude);
+        var box = boxAround(latitude, longitude, radiusInKm);
+        var lastRing = Math.max(
+                Math.max(centerRow - box.firstRow(), box.lastRow() - centerRow),
+                Math.max(box.westColumns(), box.eastColumns()));
+
+        for (int ring = 0; ring <= lastRing; ring++) {
+
+            for (int row = Math.max(centerRow - ring, box.firstRow()); row <= Math.min(centerRow + ring, box.lastRow()); row++) {
+
+                if (row == centerRow - ring || row == centerRow + ring) {
+
+                    for (int column = -Math.min(ring, box.westColumns()); column <= Math.min(ring, box.eastColumns()); column++) {
+                        collect(row, centerColumn + column, latitude, longitude, radiusInKm, nearest);
+                    }
+
+                    continue;
+                }
+
+                // between the edges the ring is only its west and east cells, the inner ones were already visited
+                if (ring <= box.westColumns()) collect(row, centerColumn - ring, latitude, longitude, radiusInKm, nearest);
+                if (ring <= box.eastColumns()) collect(row, centerColumn + ring, latitude, longitude, radiusInKm, nearest);
+            }
+
+            // everything outside this ring is at least one whole ring of cells away
+            if (nearest.isFull() && nearest.farthestInKm() <= ringWidthInKm(latitude, ring)) break;
+        }
+
+        return nearest.closestFirst();
+    }
+
+    private void collect(int row, int column, double latitude, double longitude, double radiusInKm, Nearest nearest) {
+
+        for (Point point : cells.getOrDefault(key(row, Math.floorMod(column, LONGITUDE_CELLS)), Set.of())) {
+
+            var distance = distanceInKm(latitude, longitude, point.latitude(), point.longitude());
+
+            if (distance <= radiusInKm) nearest.offer(point.id(), distance);
+        }
+    }
+
+    /**
+     * The closest restaurants met so far, farthest on top so it is the one to give way. A restaurant met a second
+     * time, in the cell a concurrent move is taking it to, keeps its first place.
+     */
+    private static final class Nearest {
+
+        private final int limit;
+
+        private final PriorityQueue<Neighbor> neighbors;
+
+        private final Set<UUID> ids = new HashSet<>();
+
+        Nearest(int limit) {
+            this.limit = limit;
+            this.neighbors = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(Neighbor::distanceInKm).reversed());
+        }
+
+        void offer(UUID id, double distanceInKm) {
+
+            if (!ids.add(id)) return;
+
+            neighbors.add(new Neighbor(id, distanceInKm));
+
+            if (neighbors.size() > limit) ids.remove(neighbors.poll().id());
+        }
+
+        boolean isFull() {
+            return neighbors.size() == limit;
+        }
+
+        double farthestInKm() {
+            return neighbors.peek().distanceInKm();
+        }
+
+        List<UUID> closestFirst() {
+
+            var closest = new UUID[neighbors.size()];
+
+            for (int i = closest.length - 1; i >= 0; i--) closest[i] = neighbors.poll().id();
+
+            return List.of(closest);
+        }
+
+    }
+
+    static double distanceInKm(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+
+        var latitudeDelta = Math.toRadians(toLatitude - fromLatitude);
+        var longitudeDelta = Math.toRadians(toLongitude - fromLongitude);
+
+        var haversine = Math.pow(Math.sin(latitudeDelta / 2), 2) +
+                Math.cos(Math.toRadians(fromLatitude)) * Math.cos(Math.toRadians(toLatitude)) *
+                        Math.pow(Math.sin(longitudeDelta / 2), 2);
+
+        return 2 * EARTH_RADIUS_IN_KM * Math.asin(Math.min(1, Math.sqrt(haversine)));
+    }
+
+    // Smallest east-west width of `ring` cells in the band the rings cover, where cells are narrowest.
+    private static double ringWidthInKm(double latitude, int ring) {
+
+        var widestLatitude = Math.min(90, Math.abs(latitude) + (ring + 1) * CELL_DEGREES);
+
+        return ring * CELL_DEGREES * KM_PER_DEGREE * Math.cos(Math.toRadians(widestLatitude));
+    }
+
+    /**
+     * Cells that can hold a point within {@code radiusInKm}: the rows the radius spans and, east and west of the
+     * center column, the widest longitude the circle reaches. A circle around a pole reaches every longitude, so
+     * near the poles the box is every column of a few rows rather than an ever wider ring.
+     */
+    private static Box boxAround(double latitude, double longitude, double radiusInKm) {
+
+        var radiusInDegrees = radiusInKm / KM_PER_DEGREE;
+        var south = latitude - radiusInDegrees;
+        var north = latitude + radiusInDegrees;
+
+        var firstRow = row(Math.max(-90, south));
+        var lastRow = row(Math.min(90, north));
+
+        if (south <= -90 || north >= 90) return Box.allColumns(firstRow, lastRow);
+
+        var halfWidth = Math.toDegrees(Math.asin(
+                Math.sin(Math.toRadians(radiusInDegrees)) / Math.cos(Math.toRadians(latitude))));
+
+        var centerColumn = (int) Math.floor((longitude + 180) / CELL_DEGREES);
+        var westColumns = centerColumn - (int) Math.floor((longitude - halfWidth + 180) / CELL_DEGREES);
+        var eastColumns = (int) Math.floor((longitude + halfWidth + 180) / CELL_DEGREES) - centerColumn;
+
+        if (westColumns + eastColumns + 1 >= LONGITUDE_CELLS) return Box.allColumns(firstRow, lastRow);
+
+        return new Box(firstRow, lastRow, westColumns, eastColumns);
+    }
+
+    private static long cellOf(double latitude, double longitude) {
+        return key(row(latitude), column(longitude));
+    }
+
+    private static long key(int row, int column) {
+        return (long) row * LONGITUDE_CELLS + column;
+    }
+
+    private static int row(double latitude) {
+        return Math.min(LATITUDE_CELLS - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES));
+    }
+
+    private static int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), LONGITUDE_CELLS);
+    }
+
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,29 +13,37 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "restaurant",
-        indexes = {
-            @Index(name = "idx_full_search", columnList = "full_search")
-        }
+        uniqueConstraints = @UniqueConstraint(name = RestaurantJpaEntity.NAME_CONSTRAINT, columnNames = "name")
     )
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class RestaurantJpaEntity {
 
+    static final String NAME_CONSTRAINT = "uk_restaurant_name";
+
     @Id
     private UUID id;
 
-    @Column(name = "name", unique = true)
+    @Column(name = "name")
     private String name;
 
     @Column(name = "register")
     private LocalDateTime register;
 
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    @UpdateTimestamp
+    @Column(name = "last_modified")
+    private LocalDateTime lastModified;
+
     @Column(name = "tables")
     private Integer tables;
 
-    @OneToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL, mappedBy = "restaurant")
-    private List<OpeningHourJpaEntity> openingHours;
+    @Column(name = "weekly_schedule", nullable = false)
+    private byte[] weeklySchedule;
 
     @OneToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL, mappedBy = "restaurant")
     private List<CuisineJpaEntity> cuisines;
@@ -46,6 +55,15 @@ public class RestaurantJpaEntity {
     @Column(name = "full_search", columnDefinition = "TEXT")
     private String fullSearch;
 
+    @Column(name = "cuisine_mask", nullable = false)
+    private long cuisineMask;
+
+    @OneToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL, mappedBy = "restaurant", orphanRemoval = true)
+    private List<SearchTokenJpaEntity> searchTokens;
+
+    @OneToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL, mappedBy = "restaurant", orphanRemoval = true)
+    private List<OpeningIntervalJpaEntity> openingIntervals;
+
 
 
 
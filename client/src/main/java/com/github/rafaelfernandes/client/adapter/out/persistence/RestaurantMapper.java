@@ -1,11 +1,15 @@
 package com.github.rafaelfernandes.client.adapter.out.persistence;
 
 import com.github.rafaelfernandes.client.application.domain.model.Client;
+import com.github.rafaelfernandes.client.application.domain.model.RestaurantVersion;
+import com.github.rafaelfernandes.client.application.domain.model.WeeklySchedule;
+import com.github.rafaelfernandes.common.text.SearchKey;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Locale;
 
 @Component
 class RestaurantMapper {
@@ -13,22 +17,16 @@ class RestaurantMapper {
     RestaurantJpaEntity toCreateEntity(Client restaurant){
 
         var restaurantEntity = new RestaurantJpaEntity();
-        restaurantEntity.setId(UUID.fromString(restaurant.getRestaurantId().id()));
+        restaurantEntity.setId(restaurant.getRestaurantId().id());
         restaurantEntity.setName(restaurant.getName());
         restaurantEntity.setRegister(restaurant.getRegister());
         restaurantEntity.setTables(restaurant.getTables());
+        restaurantEntity.setVersion(restaurant.getVersion());
 
-        var openingHoursEntity = new ArrayList<OpeningHourJpaEntity>();
+        var weeklySchedule = WeeklySchedule.of(restaurant.getOpeningHours());
 
-        for (Client.OpeningHour openingHour: restaurant.getOpeningHours()){
-            var openingHourEntity = new OpeningHourJpaEntity();
-            openingHourEntity.setDayOfWeek(openingHour.getDayOfWeek().toUpperCase());
-            openingHourEntity.setStart(openingHour.getStart());
-            openingHourEntity.setEnd(openingHour.getEnd());
-            openingHourEntity.setRestaurant(restaurantEntity);
-            openingHoursEntity.add(openingHourEntity);
-
-        }
+        restaurantEntity.setWeeklySchedule(weeklySchedule.toBytes());
+        restaurantEntity.setOpeningIntervals(toOpeningIntervalsEntity(weeklySchedule, restaurantEntity));
 
         var addressEntity = new AddressJpaEntity();
 
@@ -37,7 +35,9 @@ class RestaurantMapper {
         addressEntity.setAddittionalDetails(restaurant.getAddress().getAddittionalDetails());
         addressEntity.setNeighborhood(restaurant.getAddress().getNeighborhood());
         addressEntity.setCity(restaurant.getAddress().getCity());
-        addressEntity.setState(restaurant.getAddress().getState().toUpperCase());
+        addressEntity.setState(restaurant.getAddress().getState().toUpperCase(Locale.ROOT));
+        addressEntity.setLatitude(restaurant.getAddress().getLatitude());
+        addressEntity.setLongitude(restaurant.getAddress().getLongitude());
 
         var fullSearch = new StringBuilder()
                 .append(restaurant.getName())
@@ -52,68 +52,173 @@ class RestaurantMapper {
                 .append("_")
                 .append(restaurant.getAddress().getCity())
                 .append("_")
-                .append(restaurant.getAddress().getState().toUpperCase())
+                .append(restaurant.getAddress().getState())
                 .append("_")
         ;
 
         var cuisines = new ArrayList<CuisineJpaEntity>();
+        var cuisineMask = 0L;
 
         for (Client.Cuisine cuisine : restaurant.getCuisines()){
             var cuisineJpa =  new CuisineJpaEntity();
             cuisineJpa.setCusine(cuisine.getCuisine());
+            cuisineJpa.setRestaurant(restaurantEntity);
             cuisines.add(cuisineJpa);
-            fullSearch.append(cuisine.getCuisine().toUpperCase()).append("_");
+            cuisineMask |= CuisineMask.of(cuisine.getCuisine());
+            fullSearch.append(cuisine.getCuisine()).append("_");
         }
 
-        restaurantEntity.setFullSearch(fullSearch.toString());
+        restaurantEntity.setCuisineMask(cuisineMask);
+
+        restaurantEntity.setFullSearch(SearchKey.normalize(fullSearch.toString()));
+        restaurantEntity.setSearchTokens(toSearchTokensEntity(restaurant, restaurantEntity));
 
-        restaurantEntity.setOpeningHours(openingHoursEntity);
         restaurantEntity.setAddress(addressEntity);
         restaurantEntity.setCuisines(cuisines);
 
         return restaurantEntity;
     }
 
+    List<SearchTokenJpaEntity> toSearchTokensEntity(Client restaurant, RestaurantJpaEntity restaurantEntity) {
+
+        var address = restaurant.getAddress();
+
+        var terms = new LinkedHashSet<>(SearchTokenizer.terms(SearchTokenizer.NAME, restaurant.getName()));
+
+        for (String part : new String[]{
+                address.getStreet(),
+                String.valueOf(address.getNumber()),
+                address.getAddittionalDetails(),
+                address.getNeighborhood(),
+                address.getCity(),
+                address.getState()}) {
+            terms.addAll(SearchTokenizer.terms(SearchTokenizer.LOCATION, part));
+        }
+
+        var tokens = new ArrayList<SearchTokenJpaEntity>();
+
+        for (String term : terms) {
+            var token = new SearchTokenJpaEntity();
+            token.setTerm(term);
+            token.setRestaurant(restaurantEntity);
+            tokens.add(token);
+        }
+
+        return tokens;
+    }
+
+    List<OpeningIntervalJpaEntity> toOpeningIntervalsEntity(WeeklySchedule weeklySchedule, RestaurantJpaEntity restaurantEntity) {
+
+        var openingIntervals = new ArrayList<OpeningIntervalJpaEntity>(weeklySchedule.intervals());
+
+        for (int i = 0; i < weeklySchedule.intervals(); i++) {
+            var openingInterval = new OpeningIntervalJpaEntity();
+            openingInterval.setStartMinute(weeklySchedule.start(i));
+            openingInterval.setEndMinute(weeklySchedule.end(i));
+            openingInterval.setRestaurant(restaurantEntity);
+            openingIntervals.add(openingInterval);
+        }
+
+        return openingIntervals;
+    }
+
     Client toModel(RestaurantJpaEntity restaurantJpaEntity){
 
-        Client.Address address = new Client.Address(
+        Client.Address address = Client.Address.restore(
                 restaurantJpaEntity.getAddress().getStreet(),
                 restaurantJpaEntity.getAddress().getNumber(),
                 restaurantJpaEntity.getAddress().getAddittionalDetails(),
                 restaurantJpaEntity.getAddress().getNeighborhood(),
                 restaurantJpaEntity.getAddress().getCity(),
-                restaurantJpaEntity.getAddress().getState()
+                restaurantJpaEntity.getAddress().getState(),
+                restaurantJpaEntity.getAddress().getLatitude(),
+                restaurantJpaEntity.getAddress().getLongitude()
         );
 
-        var openinHours = toOpeningHoursModel(restaurantJpaEntity.getOpeningHours());
+        var openinHours = WeeklySchedule.fromBytes(restaurantJpaEntity.getWeeklySchedule()).toOpeningHours();
 
         var cuisines = restaurantJpaEntity.getCuisines() == null ?
 
                 new ArrayList<Client.Cuisine>() :
 
                 restaurantJpaEntity.getCuisines().stream()
-                .map(cuisineJpaEntity -> new Client.Cuisine(cuisineJpaEntity.getCusine()))
+                .map(cuisineJpaEntity -> Client.Cuisine.restore(cuisineJpaEntity.getCusine()))
                 .toList();
 
         return Client.of(
-                restaurantJpaEntity.getId().toString(),
+                new Client.RestaurantId(restaurantJpaEntity.getId()),
                 restaurantJpaEntity.getName(),
                 address,
                 restaurantJpaEntity.getRegister(),
                 openinHours,
                 restaurantJpaEntity.getTables(),
-                cuisines
+                cuisines,
+                restaurantJpaEntity.getVersion(),
+                restaurantJpaEntity.getLastModified()
         );
     }
 
-    List<Client.OpeningHour> toOpeningHoursModel(List<OpeningHourJpaEntity> openingHourJpaEntities) {
-        return openingHourJpaEntities.stream()
-                .map(openingHourJpaEntity -> new Client.OpeningHour(
-                        openingHourJpaEntity.getDayOfWeek(),
-                        openingHourJpaEntity.getStart(),
-                        openingHourJpaEntity.getEnd()
-                )).toList();
+    /**
+     * Read model of a restaurant that was just flushed, so its version and last modification are already known.
+     * States are upper-cased as in {@link #toCreateEntity(Client)}.
+     */
+    RestaurantViewJpaEntity toViewEntity(Client restaurant, RestaurantJpaEntity restaurantSaved){
+
+        var address = restaurant.getAddress();
+
+        var payload = RestaurantViewCodec.encode(
+                Client.Address.restore(
+                        address.getStreet(),
+                        address.getNumber(),
+                        address.getAddittionalDetails(),
+                        address.getNeighborhood(),
+                        address.getCity(),
+                        address.getState().toUpperCase(Locale.ROOT)),
+                restaurant.getCuisines());
+
+        return new RestaurantViewJpaEntity(
+                restaurantSaved.getId(),
+                restaurantSaved.getName(),
+                restaurantSaved.getRegister(),
+                restaurantSaved.getVersion(),
+                restaurantSaved.getLastModified(),
+                restaurantSaved.getTables(),
+                restaurantSaved.getCuisineMask(),
+                address.getLatitude(),
+                address.getLongitude(),
+                restaurantSaved.getWeeklySchedule(),
+                payload
+        );
+    }
+
+    Client toModel(RestaurantViewJpaEntity restaurantView){
+
+        var payload = RestaurantViewCodec.decode(restaurantView.getPayload());
+        var address = payload.address();
+
+        return Client.of(
+                new Client.RestaurantId(restaurantView.getId()),
+                restaurantView.getName(),
+                Client.Address.restore(
+                        address.getStreet(),
+                        address.getNumber(),
+                        address.getAddittionalDetails(),
+                        address.getNeighborhood(),
+                        address.getCity(),
+                        address.getState(),
+                        restaurantView.getLatitude(),
+                        restaurantView.getLongitude()),
+                restaurantView.getRegister(),
+                WeeklySchedule.fromBytes(restaurantView.getWeeklySchedule()).toOpeningHours(),
+                restaurantView.getTables(),
+                payload.cuisines(),
+                restaurantView.getVersion(),
+                restaurantView.getLastModified()
+        );
+    }
 
+    RestaurantVersion toVersionModel(RestaurantVersionRow row) {
+        return new RestaurantVersion(new Client.RestaurantId(row.id()), row.version(), row.lastModified());
     }
 
 }
@@ -1,58 +1,133 @@
 package com.github.rafaelfernandes.client.adapter.out.persistence;
 
 import com.github.rafaelfernandes.client.application.domain.model.Client;
+import com.github.rafaelfernandes.client.application.domain.model.ClientPage;
+import com.github.rafaelfernandes.client.application.domain.model.NearbySearch;
+import com.github.rafaelfernandes.client.application.domain.model.Pagination;
+import com.github.rafaelfernandes.client.application.domain.model.RestaurantVersion;
+import com.github.rafaelfernandes.client.application.domain.model.SearchCriteria;
+import com.github.rafaelfernandes.client.application.domain.model.VersionPage;
 import com.github.rafaelfernandes.common.annotations.PersistenceAdapter;
-import com.github.rafaelfernandes.common.enums.Cuisine;
+import com.github.rafaelfernandes.common.cache.CacheNames;
 import com.github.rafaelfernandes.client.exception.RestaurantDuplicateException;
 import com.github.rafaelfernandes.client.application.port.out.ManageRestaurantPort;
+import com.github.rafaelfernandes.common.enums.OrderBy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @PersistenceAdapter
 @RequiredArgsConstructor
 public class RestaurantPersistenceAdapter implements ManageRestaurantPort {
 
+    private static final int EXPORT_FETCH_SIZE = 200;
+
+    private static final int SAVE_CHUNK_SIZE = 500;
+
     private final RestaurantRepository restaurantRepository;
+    private final RestaurantViewRepository restaurantViewRepository;
+    private final RestaurantGeoIndex restaurantGeoIndex;
     private final RestaurantMapper restaurantMapper;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
 
     @Transactional
     public Client.RestaurantId create(Client restaurant) throws RestaurantDuplicateException {
 
-        if (restaurantRepository.existsByName(restaurant.getName())) throw new RestaurantDuplicateException();
+        return save(restaurant).getRestaurantId();
 
-        var restaurantToSave = restaurantMapper.toCreateEntity(restaurant);
+    }
+
+    @Override
+    @Transactional
+    public ClientPage findAllBy(SearchCriteria criteria, Pagination pagination) {
+
+        var query = RestaurantSearchQuery.of(criteria, KeysetCursor.decode(pagination.cursor()), pagination.orderBy(), pagination.size() + 1);
+
+        if (query == null) return new ClientPage(new ArrayList<>(), null);
 
-        var restautarantSaved = restaurantRepository.save(restaurantToSave);
+        var restaurantViews = restaurantViewRepository.findRestaurantViews(query);
 
-        return new Client.RestaurantId(restautarantSaved.getId().toString());
+        if (restaurantViews.isEmpty()) return new ClientPage(new ArrayList<>(), null);
+
+        var hasNext = restaurantViews.size() > pagination.size();
+        var pageViews = hasNext ? restaurantViews.subList(0, pagination.size()) : restaurantViews;
+
+        var restaurants = pageViews.stream()
+                .map(restaurantMapper::toModel)
+                .toList();
+
+        var nextCursor = hasNext ? KeysetCursor.encode(restaurants.get(restaurants.size() - 1).getName()) : null;
+
+        return new ClientPage(restaurants, nextCursor);
 
     }
 
     @Override
-    public List<Client> findAllBy(String name, String location, List<Cuisine> cuisines) {
+    public VersionPage findVersionsBy(SearchCriteria criteria, Pagination pagination) {
 
-        String cusinesString = (cuisines == null || cuisines.isEmpty()) ? null :
-                cuisines.stream()
-                .map(Enum::toString)
-                .collect(Collectors.joining("_"));
+        var query = RestaurantSearchQuery.of(criteria, KeysetCursor.decode(pagination.cursor()), pagination.orderBy(), pagination.size() + 1);
 
-        var restaurantRepositoryPage = restaurantRepository.findRestaurantsByCriteria(
-            name, location, cusinesString
-        );
+        if (query == null) return new VersionPage(List.of(), null);
 
-        if (restaurantRepositoryPage.isEmpty()) return new ArrayList<>();
+        var rows = restaurantViewRepository.findRestaurantVersions(query);
 
-        return restaurantRepositoryPage.stream()
-                .map(restaurantMapper::toModel)
+        var hasNext = rows.size() > pagination.size();
+        var pageRows = hasNext ? rows.subList(0, pagination.size()) : rows;
+
+        var versions = pageRows.stream()
+                .map(restaurantMapper::toVersionModel)
                 .toList();
 
+        // the same cursor findAllBy hands out, so a page whose rows are unchanged but now has a next page is modified
+        var nextCursor = hasNext ? KeysetCursor.encode(pageRows.get(pageRows.size() - 1).name()) : null;
+
+        return new VersionPage(versions, nextCursor);
+
+    }
+
+    @Override
+    @Transactional
+    public void streamAllBy(SearchCriteria criteria, Consumer<Client> consumer) {
+
+        var query = RestaurantSearchQuery.of(criteria, null, OrderBy.ASC, 0);
+
+        if (query == null) return;
+
+        try (var restaurantViews = restaurantViewRepository.streamRestaurantViews(query, EXPORT_FETCH_SIZE)) {
+
+            var iterator = restaurantViews.iterator();
+            var read = 0;
+
+            while (iterator.hasNext()) {
+
+                consumer.accept(restaurantMapper.toModel(iterator.next()));
 
+                if (++read % EXPORT_FETCH_SIZE == 0) entityManager.clear();
+            }
+        }
 
     }
 
@@ -63,27 +138,202 @@ public class RestaurantPersistenceAdapter implements ManageRestaurantPort {
 
     @Override
     @Transactional
-    public Client save(Client restaurant) {
+    public Client save(Client restaurant) throws RestaurantDuplicateException {
         var restaurantToSave = restaurantMapper.toCreateEntity(restaurant);
 
-        var restaurantSaved = restaurantRepository.save(restaurantToSave);
+        try {
+            var restaurantSaved = restaurantRepository.saveAndFlush(restaurantToSave);
 
-        return restaurantMapper.toModel(restaurantSaved);
+            saveView(restaurant, restaurantSaved);
+            entityManager.flush();
+
+            return restaurantMapper.toModel(restaurantSaved);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateNameOr(e);
+        }
     }
 
     @Override
-    @Transactional
+    public Set<String> findExistingNames(Collection<String> names) {
+
+        if (names.isEmpty()) return Set.of();
+
+        return restaurantRepository.findNamesIn(names);
+
+    }
+
+    /**
+     * A concurrent insert of the same name is only caught by the unique constraint.
+     */
+    private static RuntimeException duplicateNameOr(RuntimeException exception) {
+
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation &&
+                    violation.getConstraintName() != null &&
+                    violation.getConstraintName().toLowerCase(Locale.ROOT).contains(RestaurantJpaEntity.NAME_CONSTRAINT))
+                return new RestaurantDuplicateException();
+        }
+
+        return exception;
+    }
+
+    /**
+     * Inserts through Hibernate's JDBC batching, each chunk in a transaction of its own, so memory stays flat however
+     * many restaurants are given and a chunk is committed before the next one is read. When a concurrent insert took
+     * one of the names, only that chunk is rolled back and retried one restaurant at a time, each again in its own
+     * transaction, so only the clashing ones are left out.
+     *
+     * @return ids of the restaurants refused because their name is already taken
+     */
+    @Override
+    public Set<Client.RestaurantId> saveAll(List<Client> restaurants) {
+
+        // a failed flush leaves the session unusable and its transaction rollback-only, so a retry needs a new one
+        var chunkTransaction = new TransactionTemplate(transactionManager);
+        chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        var duplicates = new HashSet<Client.RestaurantId>();
+
+        for (int from = 0; from < restaurants.size(); from += SAVE_CHUNK_SIZE) {
+
+            var chunk = restaurants.subList(from, Math.min(from + SAVE_CHUNK_SIZE, restaurants.size()));
+
+            if (!saveChunk(chunkTransaction, chunk)) {
+
+                for (Client restaurant : chunk) {
+                    if (!saveChunk(chunkTransaction, List.of(restaurant))) duplicates.add(restaurant.getRestaurantId());
+                }
+            }
+        }
+
+        return duplicates;
+
+    }
+
+    /**
+     * Saves the restaurants and their views and commits them, or rolls the whole chunk back and returns false when
+     * one of the names is already taken.
+     */
+    private boolean saveChunk(TransactionTemplate chunkTransaction, List<Client> chunk) {
+
+        try {
+            chunkTransaction.executeWithoutResult(status -> {
+
+                var restaurantsSaved = restaurantRepository.saveAll(chunk.stream()
+                        .map(restaurantMapper::toCreateEntity)
+                        .toList());
+
+                entityManager.flush();
+
+                for (int i = 0; i < chunk.size(); i++) {
+                    saveView(chunk.get(i), restaurantsSaved.get(i));
+                }
+
+                entityManager.flush();
+            });
+        } catch (PersistenceException | DataIntegrityViolationException e) {
+
+            var failure = duplicateNameOr(e);
+
+            if (!(failure instanceof RestaurantDuplicateException)) throw failure;
+
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    // restaurants are only ever created and a miss is not cached, so there is nothing a write would have to evict
+    @Cacheable(cacheNames = CacheNames.RESTAURANTS, key = "#id", unless = "#result == null")
     public Optional<Client> findById(Client.RestaurantId id) {
 
-        var idUUid = UUID.fromString(id.id());
+        return restaurantViewRepository.findById(id.id())
+                .map(restaurantMapper::toModel);
+
+    }
+
+    @Override
+    @Transactional
+    public List<Client> findNearby(NearbySearch search) {
+
+        restaurantGeoIndex.loadIfEmpty(restaurantViewRepository::streamPoints);
 
-        var restaurantData = restaurantRepository.findById(idUUid);
+        var ids = restaurantGeoIndex.nearest(search.latitude(), search.longitude(), search.radiusInKm(), search.size());
 
-        if (restaurantData.isEmpty()) return Optional.empty();
+        if (ids.isEmpty()) return List.of();
+
+        var restaurantsById = restaurantViewRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(RestaurantViewJpaEntity::getId, Function.identity()));
+
+        // the index may lag behind rows written by another instance: a deleted restaurant has no view left, and one
+        // whose address lost or changed its coordinates is only kept while the stored point is still in the radius
+        return ids.stream()
+                .map(restaurantsById::get)
+                .filter(Objects::nonNull)
+                .filter(view -> view.getLatitude() != null && view.getLongitude() != null)
+                .filter(view -> RestaurantGeoIndex.distanceInKm(search.latitude(), search.longitude(),
+                        view.getLatitude(), view.getLongitude()) <= search.radiusInKm())
+                .map(restaurantMapper::toModel)
+                .toList();
+
+    }
+
+    /**
+     * Catches the proximity index up with the {@code restaurant_view} rows changed since the previous run, so
+     * restaurants written by other instances reach it within {@code client.nearby.refresh}.
+     */
+    @Scheduled(initialDelayString = "${client.nearby.refresh}", fixedDelayString = "${client.nearby.refresh}")
+    @Transactional
+    public void catchUpNearby() {
+
+        restaurantGeoIndex.catchUp(restaurantViewRepository::streamChangesSince);
+
+    }
+
+    @Override
+    public Optional<RestaurantVersion> findVersionById(Client.RestaurantId id) {
+
+        return restaurantViewRepository.findVersionById(id.id())
+                .map(restaurantMapper::toVersionModel);
+
+    }
+
+    /**
+     * Writes the read model of a restaurant right after its normalized rows were flushed, inside the same
+     * transaction, so both commit or roll back together. A new restaurant is persisted without looking its view up.
+     * Its coordinates reach the proximity index once the transaction commits, and an address without them leaves it.
+     */
+    private void saveView(Client restaurant, RestaurantJpaEntity restaurantSaved) {
+
+        var restaurantView = restaurantMapper.toViewEntity(restaurant, restaurantSaved);
+
+        if (restaurant.getVersion() == null) entityManager.persist(restaurantView);
+        else entityManager.merge(restaurantView);
+
+        var address = restaurant.getAddress();
+
+        if (address.hasCoordinates()) afterCommit(() ->
+                restaurantGeoIndex.put(restaurantView.getId(), address.getLatitude(), address.getLongitude()));
+        else afterCommit(() -> restaurantGeoIndex.remove(restaurantView.getId()));
+
+    }
 
-        var restaraunt = restaurantMapper.toModel(restaurantData.get());
+    /**
+     * Defers in-memory changes until the database has them, so a rollback never leaves them behind.
+     */
+    private static void afterCommit(Runnable action) {
 
-        return Optional.ofNullable(restaraunt);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
 
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
@@ -0,0 +1,51 @@
+package com.github.rafaelfernandes.client.adapter.out.persistence;
+
+import com.github.rafaelfernandes.client.application.domain.model.SearchCriteria;
+import com.github.rafaelfernandes.client.application.domain.model.WeeklySchedule;
+import com.github.rafaelfernandes.common.enums.CuisineMatch;
+import com.github.rafaelfernandes.common.enums.OrderBy;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+/**
+ * Search filters as stored in the index: field-qualified terms, a cuisine bitmask and a minute of the week, or null
+ * for any time. A {@code limit} of zero means unbounded.
+ */
+record RestaurantSearchQuery(
+        Collection<String> terms,
+        long cuisineMask,
+        CuisineMatch cuisineMatch,
+        Integer openAt,
+        String afterName,
+        OrderBy orderBy,
+        int limit
+) {
+
+    /**
+     * Translates the criteria into index terms and mask, or returns null when none of them is filled.
+     */
+    static RestaurantSearchQuery of(SearchCriteria criteria, String afterName, OrderBy orderBy, int limit) {
+
+        var terms = new LinkedHashSet<String>();
+        terms.addAll(SearchTokenizer.terms(SearchTokenizer.NAME, criteria.name()));
+        terms.addAll(SearchTokenizer.terms(SearchTokenizer.LOCATION, criteria.location()));
+
+        var cuisineMask = CuisineMask.of(criteria.cuisines());
+
+        var openAt = criteria.openAt() == null ? null : WeeklySchedule.minuteOfWeek(criteria.openAt());
+
+        if (terms.isEmpty() && cuisineMask == 0L && openAt == null) return null;
+
+        return new RestaurantSearchQuery(terms, cuisineMask, criteria.cuisineMatch(), openAt, afterName, orderBy, limit);
+    }
+
+    /**
+     * First minute of the day {@link #openAt()} falls on. Intervals never cross midnight, so only those starting
+     * between this minute and {@code openAt} can contain it.
+     */
+    int openAtDayStart() {
+        return openAt - openAt % WeeklySchedule.MINUTES_PER_DAY;
+    }
+
+}
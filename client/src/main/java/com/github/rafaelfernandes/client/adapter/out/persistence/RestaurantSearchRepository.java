@@ -0,0 +1,25 @@
+package com.github.rafaelfernandes.client.adapter.out.persistence;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface RestaurantSearchRepository {
+
+    /**
+     * Returns at most {@code query.limit()} matching restaurants, in name order, strictly after
+     * {@code query.afterName()} when it is set.
+     */
+    List<RestaurantViewJpaEntity> findRestaurantViews(RestaurantSearchQuery query);
+
+    /**
+     * Same rows and order as {@link #findRestaurantViews(RestaurantSearchQuery)}, with their version columns only.
+     */
+    List<RestaurantVersionRow> findRestaurantVersions(RestaurantSearchQuery query);
+
+    /**
+     * Streams every matching restaurant in name order. The stream holds an open cursor and must be closed inside
+     * the surrounding transaction.
+     */
+    Stream<RestaurantViewJpaEntity> streamRestaurantViews(RestaurantSearchQuery query, int fetchSize);
+
+}
@@ -0,0 +1,134 @@
+package com.github.rafaelfernandes.client.adapter.out.persistence;
+
+import com.github.rafaelfernandes.common.enums.CuisineMatch;
+import com.github.rafaelfernandes.common.enums.OrderBy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+class RestaurantSearchRepositoryImpl implements RestaurantSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<RestaurantViewJpaEntity> findRestaurantViews(RestaurantSearchQuery search) {
+
+        var builder = entityManager.getCriteriaBuilder();
+        var query = builder.createQuery(RestaurantViewJpaEntity.class);
+        var restaurant = query.from(RestaurantViewJpaEntity.class);
+
+        query.select(restaurant);
+        where(builder, query, restaurant, search);
+
+        var typedQuery = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+
+        if (search.limit() > 0) typedQuery.setMaxResults(search.limit());
+
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public List<RestaurantVersionRow> findRestaurantVersions(RestaurantSearchQuery search) {
+
+        var builder = entityManager.getCriteriaBuilder();
+        var query = builder.createQuery(RestaurantVersionRow.class);
+        var restaurant = query.from(RestaurantViewJpaEntity.class);
+
+        query.select(builder.construct(RestaurantVersionRow.class,
+                restaurant.get("id"), restaurant.get("name"), restaurant.get("version"), restaurant.get("lastModified")));
+        where(builder, query, restaurant, search);
+
+        var typedQuery = entityManager.createQuery(query);
+
+        if (search.limit() > 0) typedQuery.setMaxResults(search.limit());
+
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public Stream<RestaurantViewJpaEntity> streamRestaurantViews(RestaurantSearchQuery search, int fetchSize) {
+
+        var builder = entityManager.getCriteriaBuilder();
+        var query = builder.createQuery(RestaurantViewJpaEntity.class);
+        var restaurant = query.from(RestaurantViewJpaEntity.class);
+
+        query.select(restaurant);
+        where(builder, query, restaurant, search);
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private static void where(CriteriaBuilder builder, CriteriaQuery<?> query, Root<RestaurantViewJpaEntity> restaurant,
+                              RestaurantSearchQuery search) {
+
+        var terms = search.terms();
+        var cuisineMask = search.cuisineMask();
+
+        var predicates = new ArrayList<Predicate>();
+
+        if (terms != null && !terms.isEmpty()) {
+
+            var matching = query.subquery(UUID.class);
+            var token = matching.from(SearchTokenJpaEntity.class);
+            var restaurantId = token.get("restaurant").<UUID>get("id");
+
+            matching.select(restaurantId)
+                    .where(token.get("term").in(terms))
+                    .groupBy(restaurantId)
+                    .having(builder.equal(builder.countDistinct(token.get("term")), (long) terms.size()));
+
+            predicates.add(restaurant.get("id").in(matching));
+        }
+
+        if (search.openAt() != null) {
+
+            var open = query.subquery(UUID.class);
+            var interval = open.from(OpeningIntervalJpaEntity.class);
+            var startMinute = interval.<Integer>get("startMinute");
+
+            open.select(interval.get("restaurant").<UUID>get("id"))
+                    .where(builder.between(startMinute, search.openAtDayStart(), search.openAt()),
+                            builder.greaterThan(interval.get("endMinute"), search.openAt()));
+
+            predicates.add(restaurant.get("id").in(open));
+        }
+
+        if (cuisineMask != 0L) {
+
+            // no index can serve bitand(): alone it reads every view row, next to terms or openAt it only filters
+            var common = builder.function("bitand", Long.class,
+                    restaurant.get("cuisineMask"), builder.literal(cuisineMask));
+
+            predicates.add(search.cuisineMatch() == CuisineMatch.ANY ?
+                    builder.notEqual(common, 0L) :
+                    builder.equal(common, cuisineMask));
+        }
+
+        var name = restaurant.<String>get("name");
+        var descending = search.orderBy() == OrderBy.DESC;
+
+        if (search.afterName() != null) {
+            predicates.add(descending ?
+                    builder.lessThan(name, search.afterName()) :
+                    builder.greaterThan(name, search.afterName()));
+        }
+
+        query.where(predicates.toArray(Predicate[]::new))
+                .orderBy(descending ? builder.desc(name) : builder.asc(name));
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.github.rafaelfernandes.client.adapter.out.persistence;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Version columns of a restaurant row and its name, the page sort key, read without touching its address or
+ * collections.
+ */
+record RestaurantVersionRow(
+        UUID id,
+        String name,
+        Long version,
+        LocalDateTime lastModified
+) {
+}
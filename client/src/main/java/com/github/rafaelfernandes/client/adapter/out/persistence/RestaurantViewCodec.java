@@ -0,0 +1,127 @@
+package com.github.rafaelfernandes.client.adapter.out.persistence;
+
+import com.github.rafaelfernandes.client.application.domain.model.Client;
+import com.github.rafaelfernandes.common.enums.Cuisine;
+import com.github.rafaelfernandes.common.enums.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary form of the parts of a restaurant that are never filtered on: the address and the cuisines. States and
+ * cuisines are written as one-byte ordinals, so a typical restaurant takes well under two hundred bytes. Ordinals are
+ * persisted, so new constants must be appended to the end of their enum. Opening hours are not part of it, they have
+ * their own column, see {@code WeeklySchedule}.
+ */
+final class RestaurantViewCodec {
+
+    private static final byte FORMAT = 2;
+
+    private static final byte BY_NAME = -1;
+
+    private RestaurantViewCodec() {
+    }
+
+    record Payload(
+            Client.Address address,
+            List<Client.Cuisine> cuisines
+    ) {
+    }
+
+    static byte[] encode(Client.Address address, List<Client.Cuisine> cuisines) {
+
+        var bytes = new ByteArrayOutputStream(128);
+
+        try (var out = new DataOutputStream(bytes)) {
+
+            out.writeByte(FORMAT);
+
+            writeText(out, address.getStreet());
+            out.writeInt(address.getNumber());
+            writeText(out, address.getAddittionalDetails());
+            writeText(out, address.getNeighborhood());
+            writeText(out, address.getCity());
+            writeConstant(out, State.class, address.getState());
+
+            out.writeShort(cuisines.size());
+
+            for (Client.Cuisine cuisine : cuisines) {
+                writeConstant(out, Cuisine.class, cuisine.getCuisine());
+            }
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    static Payload decode(byte[] payload) {
+
+        try (var in = new DataInputStream(new ByteArrayInputStream(payload))) {
+
+            var format = in.readByte();
+
+            if (format != FORMAT) throw new IllegalStateException("Unknown restaurant view format " + format);
+
+            var address = Client.Address.restore(
+                    readText(in),
+                    in.readInt(),
+                    readText(in),
+                    readText(in),
+                    readText(in),
+                    readConstant(in, State.class)
+            );
+
+            var cuisineCount = in.readShort();
+            var cuisines = new ArrayList<Client.Cuisine>(cuisineCount);
+
+            for (int i = 0; i < cuisineCount; i++) {
+                cuisines.add(Client.Cuisine.restore(readConstant(in, Cuisine.class)));
+            }
+
+            return new Payload(address, cuisines);
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Keeps null apart from the empty string, which writeUTF alone cannot.
+    private static void writeText(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeUTF(value);
+    }
+
+    private static String readText(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    // Names that are not constants of the enum are kept as text, so a row never loses what was stored.
+    private static <E extends Enum<E>> void writeConstant(DataOutputStream out, Class<E> type, String name) throws IOException {
+
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equals(name)) {
+                out.writeByte(constant.ordinal());
+                return;
+            }
+        }
+
+        out.writeByte(BY_NAME);
+        writeText(out, name);
+    }
+
+    private static <E extends Enum<E>> String readConstant(DataInputStream in, Class<E> type) throws IOException {
+
+        var ordinal = in.readByte();
+
+        return ordinal == BY_NAME ? readText(in) : type.getEnumConstants()[ordinal].name();
+    }
+
+}
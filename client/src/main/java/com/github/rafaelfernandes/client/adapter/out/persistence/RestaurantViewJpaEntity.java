@@ -0,0 +1,61 @@
+package com.github.rafaelfernandes.client.adapter.out.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read model of a restaurant: one row per restaurant, written next to the normalized tables and read without
+ * joins. The columns searches filter or sort on, the coordinates and the weekly schedule are kept apart; the rest
+ * is packed by {@link RestaurantViewCodec}. The row goes away with its restaurant through the foreign key.
+ */
+@Entity
+@Table(name = "restaurant_view",
+        indexes = {
+            @Index(name = "idx_restaurant_view_name", columnList = "name"),
+            @Index(name = "idx_restaurant_view_last_modified", columnList = "last_modified")
+        }
+    )
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RestaurantViewJpaEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "register")
+    private LocalDateTime register;
+
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "last_modified")
+    private LocalDateTime lastModified;
+
+    @Column(name = "tables")
+    private Integer tables;
+
+    @Column(name = "cuisine_mask", nullable = false)
+    private long cuisineMask;
+
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    @Column(name = "weekly_schedule", nullable = false)
+    private byte[] weeklySchedule;
+
+    @Column(name = "payload", nullable = false)
+    private byte[] payload;
+
+}
@@ -0,0 +1,35 @@
+package com.github.rafaelfernandes.client.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface RestaurantViewRepository extends JpaRepository<RestaurantViewJpaEntity, UUID>, RestaurantSearchRepository {
+
+    @Query("""
+            SELECT new com.github.rafaelfernandes.client.adapter.out.persistence.RestaurantVersionRow(v.id, v.name, v.version, v.lastModified)
+            FROM RestaurantViewJpaEntity v
+            WHERE v.id = :id
+            """)
+    Optional<RestaurantVersionRow> findVersionById(@Param("id") UUID id);
+
+    @Query("""
+            SELECT new com.github.rafaelfernandes.client.adapter.out.persistence.RestaurantGeoIndex$Point(v.id, v.latitude, v.longitude)
+            FROM RestaurantViewJpaEntity v
+            WHERE v.latitude IS NOT NULL AND v.longitude IS NOT NULL
+            """)
+    Stream<RestaurantGeoIndex.Point> streamPoints();
+
+    @Query("""
+            SELECT new com.github.rafaelfernandes.client.adapter.out.persistence.RestaurantGeoIndex$Change(v.id, v.latitude, v.longitude)
+            FROM RestaurantViewJpaEntity v
+            WHERE v.lastModified >= :since
+            """)
+    Stream<RestaurantGeoIndex.Change> streamChangesSince(@Param("since") LocalDateTime since);
+
+}
@@ -5,32 +5,28 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.time.LocalTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "opening_hour")
+@Table(name = "search_token",
+        indexes = {
+            @Index(name = "idx_search_token_term", columnList = "term, restaurant_id")
+        }
+    )
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class OpeningHourJpaEntity {
+public class SearchTokenJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
-    @Column(name = "day_of_week")
-    private String dayOfWeek;
+    @Column(name = "term", nullable = false)
+    private String term;
 
-    @Column(name = "start_time")
-    private LocalTime start;
-
-    @Column(name = "end_time")
-    private LocalTime end;
-
-    @ManyToOne(cascade = CascadeType.ALL)
+    @ManyToOne
     @JoinColumn(name = "restaurant_id", referencedColumnName = "id")
     private RestaurantJpaEntity restaurant;
 
-
 }
@@ -0,0 +1,34 @@
+package com.github.rafaelfernandes.client.adapter.out.persistence;
+
+import com.github.rafaelfernandes.common.text.SearchKey;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Splits free text into the terms stored in {@link SearchTokenJpaEntity}, folded by {@link SearchKey} so accents
+ * and casing never decide a match. Every term carries the field it came from, so a name search never matches a street.
+ */
+final class SearchTokenizer {
+
+    static final String NAME = "name:";
+    static final String LOCATION = "location:";
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchTokenizer() {
+    }
+
+    static Set<String> terms(String field, String text) {
+
+        if (text == null || text.isBlank()) return new LinkedHashSet<>();
+
+        return Arrays.stream(SEPARATOR.split(SearchKey.normalize(text)))
+                .filter(token -> !token.isEmpty())
+                .map(token -> field + token)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
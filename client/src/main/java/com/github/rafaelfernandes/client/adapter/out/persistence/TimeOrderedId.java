@@ -0,0 +1,18 @@
+package com.github.rafaelfernandes.client.adapter.out.persistence;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates the annotated id with {@link com.github.rafaelfernandes.common.id.TimeOrderedUuid}, like the
+ * restaurant ids assigned by the domain.
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@interface TimeOrderedId {
+}
@@ -1,8 +1,12 @@
 package com.github.rafaelfernandes.client.application.domain.model;
 
 import com.github.rafaelfernandes.common.enums.State;
+import com.github.rafaelfernandes.common.id.TimeOrderedUuid;
 import com.github.rafaelfernandes.common.validation.ValueOfEnum;
+import com.github.rafaelfernandes.common.validation.ValueOfEnumValidator;
 import jakarta.validation.ValidationException;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -45,14 +49,53 @@ public class Client {
     @NotNull(message = "O campo deve estar preenchido")
     private List<Cuisine> cuisines;
 
+    private final Long version;
+
+    private final LocalDateTime lastModified;
+
     public record RestaurantId(
-            @NotEmpty(message = "O campo deve ser do tipo UUID")
-            @org.hibernate.validator.constraints.UUID(message = "O campo deve ser do tipo UUID")
-            String id
+            @NotNull(message = "O campo deve ser do tipo UUID")
+            UUID id
     ) {
-        public RestaurantId(String id){
+        public RestaurantId(UUID id){
             this.id = id;
-            validate(this);
+            validate(this, restaurantId -> restaurantId.id != null);
+        }
+
+        /**
+         * Parses the textual form. Only input from outside goes through here; inside the application the id stays a
+         * {@link UUID}.
+         */
+        public static RestaurantId of(String id) {
+
+            if (!isWellFormed(id)) validate(new Text(id));
+
+            return new RestaurantId(UUID.fromString(id));
+        }
+
+        private static boolean isWellFormed(String id) {
+
+            if (id == null || id.length() != 36) return false;
+
+            for (int i = 0; i < id.length(); i++) {
+                var c = id.charAt(i);
+                var dash = i == 8 || i == 13 || i == 18 || i == 23;
+
+                if (dash != (c == '-')) return false;
+                if (!dash && Character.digit(c, 16) < 0) return false;
+            }
+
+            // what the @UUID defaults accept: version 1 to 15, and variant 0 to 2 in Hibernate Validator's numbering,
+            // which is variant nibble 0 to d; the rest, the nil id included, is left to the validator to decide
+            return id.charAt(14) != '0' && Character.digit(id.charAt(19), 16) <= 0xd;
+        }
+
+        // Carries the annotations that report a malformed id the same way as every other field.
+        record Text(
+                @NotEmpty(message = "O campo deve ser do tipo UUID")
+                @org.hibernate.validator.constraints.UUID(message = "O campo deve ser do tipo UUID")
+                String id
+        ) {
         }
     }
 
@@ -82,14 +125,66 @@ public class Client {
         @ValueOfEnum(enumClass = State.class, message = "O campo deve ser uma sigla de estado válida")
         String state;
 
+        @DecimalMin(value = "-90.0", message = "O campo deve estar entre -90 e 90")
+        @DecimalMax(value = "90.0", message = "O campo deve estar entre -90 e 90")
+        Double latitude;
+
+        @DecimalMin(value = "-180.0", message = "O campo deve estar entre -180 e 180")
+        @DecimalMax(value = "180.0", message = "O campo deve estar entre -180 e 180")
+        Double longitude;
+
         public Address(String street, Integer number, String addittionalDetails, String neighborhood, String city, String state) {
+            this(street, number, addittionalDetails, neighborhood, city, state, null, null, false);
+        }
+
+        public Address(String street, Integer number, String addittionalDetails, String neighborhood, String city, String state, Double latitude, Double longitude) {
+            this(street, number, addittionalDetails, neighborhood, city, state, latitude, longitude, false);
+        }
+
+        private Address(String street, Integer number, String addittionalDetails, String neighborhood, String city, String state, Double latitude, Double longitude, boolean trusted) {
             this.street = street;
             this.number = number;
             this.addittionalDetails = addittionalDetails;
             this.neighborhood = neighborhood;
             this.city = city;
             this.state = state;
-            validate(this);
+            this.latitude = latitude;
+            this.longitude = longitude;
+
+            if (trusted) return;
+
+            validate(this, Address::isWellFormed);
+
+            if ((latitude == null) != (longitude == null)) throw new ValidationException("Latitude e longitude devem ser informadas juntas");
+        }
+
+        /**
+         * Rebuilds an address that was already validated before it was stored.
+         */
+        public static Address restore(String street, Integer number, String addittionalDetails, String neighborhood, String city, String state) {
+            return new Address(street, number, addittionalDetails, neighborhood, city, state, null, null, true);
+        }
+
+        /**
+         * Rebuilds an address that was already validated before it was stored.
+         */
+        public static Address restore(String street, Integer number, String addittionalDetails, String neighborhood, String city, String state, Double latitude, Double longitude) {
+            return new Address(street, number, addittionalDetails, neighborhood, city, state, latitude, longitude, true);
+        }
+
+        public boolean hasCoordinates() {
+            return latitude != null && longitude != null;
+        }
+
+        private static boolean isWellFormed(Address address) {
+            return hasLength(address.street, 10, 150) &&
+                    address.number != null && address.number > 0 &&
+                    (address.addittionalDetails == null || address.addittionalDetails.length() <= 150) &&
+                    hasLength(address.neighborhood, 3, 30) &&
+                    hasLength(address.city, 3, 60) &&
+                    ValueOfEnumValidator.accepts(State.class, address.state) &&
+                    (address.latitude == null || Math.abs(address.latitude) <= 90) &&
+                    (address.longitude == null || Math.abs(address.longitude) <= 180);
         }
     }
 
@@ -106,13 +201,41 @@ public class Client {
         LocalTime end;
 
         public OpeningHour(String dayOfWeek, LocalTime start, LocalTime end) {
+            this(dayOfWeek, start, end, false);
+        }
+
+        private OpeningHour(String dayOfWeek, LocalTime start, LocalTime end, boolean trusted) {
             this.dayOfWeek = dayOfWeek;
             this.start = start;
             this.end = end;
-            validate(this);
+
+            if (trusted) return;
+
+            validate(this, OpeningHour::isWellFormed);
 
             if (this.end.isBefore(this.start) || this.end.equals(this.start)) throw new ValidationException("O horário final deve ser depois do inicial");
 
+            // schedules are stored by the minute; LocalTime.MAX is how the end of the day reads back
+            if (!isWholeMinute(this.start) || !(isWholeMinute(this.end) || this.end.equals(LocalTime.MAX)))
+                throw new ValidationException("Os horários devem ser informados em minutos inteiros, sem segundos");
+
+        }
+
+        /**
+         * Rebuilds an opening hour that was already validated before it was stored.
+         */
+        public static OpeningHour restore(String dayOfWeek, LocalTime start, LocalTime end) {
+            return new OpeningHour(dayOfWeek, start, end, true);
+        }
+
+        private static boolean isWellFormed(OpeningHour openingHour) {
+            return ValueOfEnumValidator.accepts(DayOfWeek.class, openingHour.dayOfWeek) &&
+                    openingHour.start != null &&
+                    openingHour.end != null;
+        }
+
+        private static boolean isWholeMinute(LocalTime time) {
+            return time.getSecond() == 0 && time.getNano() == 0;
         }
     }
 
@@ -122,26 +245,62 @@ public class Client {
         @ValueOfEnum(enumClass = com.github.rafaelfernandes.common.enums.Cuisine.class, message = "O tipo de cozinha deve seguir um dos exemplos.")
         String cuisine;
         public Cuisine(String cuisine){
+            this(cuisine, false);
+        }
+
+        private Cuisine(String cuisine, boolean trusted){
             this.cuisine = cuisine;
-            validate(this);
+            if (!trusted) validate(this, Cuisine::isWellFormed);
+        }
+
+        /**
+         * Rebuilds a cuisine that was already validated before it was stored.
+         */
+        public static Cuisine restore(String cuisine) {
+            return new Cuisine(cuisine, true);
+        }
+
+        private static boolean isWellFormed(Cuisine cuisine) {
+            return ValueOfEnumValidator.accepts(com.github.rafaelfernandes.common.enums.Cuisine.class, cuisine.cuisine);
         }
     }
 
-    public Client(String name, Address address) {
+    public Client(String name, Address address, List<OpeningHour> openingHours, List<Cuisine> cuisines, Integer tables) {
         this.name = name;
         this.address = address;
+        this.openingHours = openingHours;
+        this.cuisines = cuisines;
+        this.tables = tables;
 
         this.register = LocalDateTime.now();
+        this.version = null;
+        this.lastModified = null;
 
-        validate(this);
+        validate(this, Client::isWellFormed);
 
-        this.restaurantId = new RestaurantId(UUID.randomUUID().toString());
+        this.restaurantId = new RestaurantId(TimeOrderedUuid.next());
 
     }
 
 
     public static Client of(String restaurantId, String name, Address address, LocalDateTime register, List<OpeningHour> openingHours, Integer numberOfTables, List<Cuisine> cuisines){
-        return new Client(new RestaurantId(restaurantId), name, numberOfTables, register, address,  openingHours, cuisines);
+        return of(RestaurantId.of(restaurantId), name, address, register, openingHours, numberOfTables, cuisines, null, null);
+    }
+
+    public static Client of(RestaurantId restaurantId, String name, Address address, LocalDateTime register, List<OpeningHour> openingHours, Integer numberOfTables, List<Cuisine> cuisines, Long version, LocalDateTime lastModified){
+        return new Client(restaurantId, name, numberOfTables, register, address,  openingHours, cuisines, version, lastModified);
+    }
+
+    private static boolean isWellFormed(Client restaurant) {
+        return hasLength(restaurant.name, 3, 100) &&
+                restaurant.tables != null && restaurant.tables > 0 &&
+                restaurant.address != null &&
+                restaurant.openingHours != null &&
+                restaurant.cuisines != null;
+    }
+
+    private static boolean hasLength(String value, int min, int max) {
+        return value != null && value.length() >= min && value.length() <= max;
     }
 
 }
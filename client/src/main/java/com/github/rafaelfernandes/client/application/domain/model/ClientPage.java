@@ -0,0 +1,21 @@
+package com.github.rafaelfernandes.client.application.domain.model;
+
+import com.github.rafaelfernandes.common.metrics.Sized;
+
+import java.util.List;
+
+public record ClientPage(
+        List<Client> clients,
+        String nextCursor
+) implements Sized {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    @Override
+    public int size() {
+        return clients.size();
+    }
+
+}
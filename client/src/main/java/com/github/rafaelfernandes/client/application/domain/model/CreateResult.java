@@ -0,0 +1,28 @@
+package com.github.rafaelfernandes.client.application.domain.model;
+
+import com.github.rafaelfernandes.client.exception.RestaurantDuplicateException;
+
+/**
+ * Outcome of one restaurant of a batch create: the new id when it was created, the reason otherwise.
+ */
+public record CreateResult(
+        Status status,
+        Client.RestaurantId restaurantId,
+        String error
+) {
+
+    public enum Status { CREATED, INVALID, DUPLICATE }
+
+    public static CreateResult created(Client.RestaurantId restaurantId) {
+        return new CreateResult(Status.CREATED, restaurantId, null);
+    }
+
+    public static CreateResult invalid(String error) {
+        return new CreateResult(Status.INVALID, null, error);
+    }
+
+    public static CreateResult duplicate() {
+        return new CreateResult(Status.DUPLICATE, null, new RestaurantDuplicateException().getMessage());
+    }
+
+}
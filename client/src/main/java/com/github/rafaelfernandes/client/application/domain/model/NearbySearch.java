@@ -0,0 +1,29 @@
+package com.github.rafaelfernandes.client.application.domain.model;
+
+import jakarta.validation.ValidationException;
+
+/**
+ * The {@code size} restaurants nearest to a point, closest first, up to {@code radiusInKm} away. The radius is
+ * capped at {@link #MAX_RADIUS_IN_KM}, which is also used when none is given.
+ */
+public record NearbySearch(
+        double latitude,
+        double longitude,
+        Double radiusInKm,
+        Integer size
+) {
+
+    public static final double MAX_RADIUS_IN_KM = 50.0;
+
+    public NearbySearch {
+        radiusInKm = radiusInKm == null ? MAX_RADIUS_IN_KM : radiusInKm;
+        size = size == null ? Pagination.DEFAULT_SIZE : size;
+
+        if (!(Math.abs(latitude) <= 90)) throw new ValidationException("A latitude deve estar entre -90 e 90");
+        if (!(Math.abs(longitude) <= 180)) throw new ValidationException("A longitude deve estar entre -180 e 180");
+        if (!(radiusInKm > 0 && radiusInKm <= MAX_RADIUS_IN_KM))
+            throw new ValidationException("O raio deve ser maior que zero (0) e no máximo " + (int) MAX_RADIUS_IN_KM + " km");
+        if (size < 1 || size > Pagination.MAX_SIZE) throw new ValidationException("O tamanho da página deve estar entre 1 e " + Pagination.MAX_SIZE);
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.github.rafaelfernandes.client.application.domain.model;
+
+import com.github.rafaelfernandes.common.enums.OrderBy;
+import jakarta.validation.ValidationException;
+
+/**
+ * Keyset page request: {@code cursor} is the opaque value returned with the previous page, or null for the first one.
+ */
+public record Pagination(
+        String cursor,
+        Integer size,
+        OrderBy orderBy
+) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    public Pagination {
+        size = size == null ? DEFAULT_SIZE : size;
+        orderBy = orderBy == null ? OrderBy.ASC : orderBy;
+
+        if (size < 1 || size > MAX_SIZE) throw new ValidationException("O tamanho da página deve estar entre 1 e " + MAX_SIZE);
+    }
+
+    public static Pagination first() {
+        return new Pagination(null, DEFAULT_SIZE, OrderBy.ASC);
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.github.rafaelfernandes.client.application.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Version stamp of a stored restaurant, enough to tell whether a client's copy is still current.
+ */
+public record RestaurantVersion(
+        Client.RestaurantId restaurantId,
+        Long version,
+        LocalDateTime lastModified
+) {
+
+    public static RestaurantVersion of(Client restaurant) {
+        return new RestaurantVersion(restaurant.getRestaurantId(), restaurant.getVersion(), restaurant.getLastModified());
+    }
+
+}
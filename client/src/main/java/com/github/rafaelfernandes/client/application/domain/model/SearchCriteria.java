@@ -0,0 +1,42 @@
+package com.github.rafaelfernandes.client.application.domain.model;
+
+import com.github.rafaelfernandes.common.enums.Cuisine;
+import com.github.rafaelfernandes.common.enums.CuisineMatch;
+import org.springframework.util.ObjectUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Restaurant search filters. {@code openAt} is a local date and time, matched against the opening hours as they
+ * were registered.
+ */
+public record SearchCriteria(
+        String name,
+        String location,
+        List<Cuisine> cuisines,
+        CuisineMatch cuisineMatch,
+        LocalDateTime openAt
+) {
+
+    public SearchCriteria {
+        cuisines = cuisines == null ? List.of() : cuisines;
+        cuisineMatch = cuisineMatch == null ? CuisineMatch.ALL : cuisineMatch;
+    }
+
+    public SearchCriteria(String name, String location, List<Cuisine> cuisines, CuisineMatch cuisineMatch) {
+        this(name, location, cuisines, cuisineMatch, null);
+    }
+
+    public boolean isEmpty() {
+        return ObjectUtils.isEmpty(name) && ObjectUtils.isEmpty(location) && cuisines.isEmpty() && openAt == null;
+    }
+
+    public SearchCriteria requireAnyFilter() {
+
+        if (isEmpty()) throw new IllegalArgumentException("Pelo menos um dos parâmetros deve ser fornecido.");
+
+        return this;
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.github.rafaelfernandes.client.application.domain.model;
+
+import java.util.List;
+
+/**
+ * Version stamps of a search page together with the cursor of the page after it, everything a page's validators
+ * depend on.
+ */
+public record VersionPage(
+        List<RestaurantVersion> versions,
+        String nextCursor
+) {
+
+    public boolean isEmpty() {
+        return versions.isEmpty();
+    }
+
+}
@@ -0,0 +1,178 @@
+package com.github.rafaelfernandes.client.application.domain.model;
+
+import java.nio.ByteBuffer;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Opening hours of a week as half-open {@code [start, end)} intervals of minutes counted from Monday 00:00, sorted by
+ * start. Two bytes per bound: a restaurant open every day takes 28 bytes instead of seven rows.
+ * <p>
+ * Resolution is one minute, which is all {@code Client.OpeningHour} accepts, and an end at midnight reads back as
+ * {@link LocalTime#MAX}. Hours restored from rows written before that rule are rounded: starts down and ends up.
+ */
+public final class WeeklySchedule {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    private static final WeeklySchedule CLOSED = new WeeklySchedule(new short[0]);
+
+    // start and end of each interval, one after the other
+    private final short[] bounds;
+
+    private WeeklySchedule(short[] bounds) {
+        this.bounds = bounds;
+    }
+
+    public static WeeklySchedule of(List<Client.OpeningHour> openingHours) {
+
+        if (openingHours == null || openingHours.isEmpty()) return CLOSED;
+
+        var intervals = openingHours.stream()
+                .map(openingHour -> {
+                    var day = DayOfWeek.valueOf(openingHour.getDayOfWeek().toUpperCase(Locale.ROOT)).ordinal() * MINUTES_PER_DAY;
+                    return new int[]{day + startMinute(openingHour.getStart()), day + endMinute(openingHour.getEnd())};
+                })
+                .sorted((a, b) -> a[0] != b[0] ? Integer.compare(a[0], b[0]) : Integer.compare(a[1], b[1]))
+                .toList();
+
+        var bounds = new short[intervals.size() * 2];
+
+        for (int i = 0; i < intervals.size(); i++) {
+            bounds[2 * i] = (short) intervals.get(i)[0];
+            bounds[2 * i + 1] = (short) intervals.get(i)[1];
+        }
+
+        return new WeeklySchedule(bounds);
+    }
+
+    public static WeeklySchedule fromBytes(byte[] bytes) {
+
+        if (bytes == null || bytes.length == 0) return CLOSED;
+
+        if (bytes.length % (2 * Short.BYTES) != 0) throw new IllegalArgumentException("Invalid weekly schedule of " + bytes.length + " bytes");
+
+        var bounds = new short[bytes.length / Short.BYTES];
+
+        ByteBuffer.wrap(bytes).asShortBuffer().get(bounds);
+
+        return new WeeklySchedule(bounds);
+    }
+
+    public byte[] toBytes() {
+
+        var buffer = ByteBuffer.allocate(bounds.length * Short.BYTES);
+
+        buffer.asShortBuffer().put(bounds);
+
+        return buffer.array();
+    }
+
+    public static int minuteOfWeek(DayOfWeek dayOfWeek, LocalTime time) {
+        return dayOfWeek.ordinal() * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
+    }
+
+    public static int minuteOfWeek(LocalDateTime instant) {
+        return minuteOfWeek(instant.getDayOfWeek(), instant.toLocalTime());
+    }
+
+    public int intervals() {
+        return bounds.length / 2;
+    }
+
+    public int start(int interval) {
+        return bounds[2 * interval];
+    }
+
+    public int end(int interval) {
+        return bounds[2 * interval + 1];
+    }
+
+    public boolean isOpenAt(LocalDateTime instant) {
+        return isOpenAt(minuteOfWeek(instant));
+    }
+
+    /**
+     * Whether some interval contains {@code minuteOfWeek}. A week holds a handful of intervals, so a scan that
+     * stops at the first later start beats any search structure.
+     */
+    public boolean isOpenAt(int minuteOfWeek) {
+
+        for (int i = 0; i < bounds.length && bounds[i] <= minuteOfWeek; i += 2) {
+            if (minuteOfWeek < bounds[i + 1]) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Whether the restaurant is open at some minute of {@code [from, to)}. Neither bound wraps around the week.
+     */
+    public boolean overlaps(int from, int to) {
+
+        for (int i = 0; i < bounds.length && bounds[i] < to; i += 2) {
+            if (from < bounds[i + 1]) return true;
+        }
+
+        return false;
+    }
+
+    public boolean overlaps(WeeklySchedule other) {
+
+        for (int i = 0; i < other.bounds.length; i += 2) {
+            if (overlaps(other.bounds[i], other.bounds[i + 1])) return true;
+        }
+
+        return false;
+    }
+
+    public List<Client.OpeningHour> toOpeningHours() {
+
+        var openingHours = new ArrayList<Client.OpeningHour>(intervals());
+
+        for (int i = 0; i < bounds.length; i += 2) {
+
+            var day = bounds[i] / MINUTES_PER_DAY;
+
+            openingHours.add(Client.OpeningHour.restore(
+                    DayOfWeek.of(day + 1).name(),
+                    toTime(bounds[i] - day * MINUTES_PER_DAY),
+                    toTime(bounds[i + 1] - day * MINUTES_PER_DAY)));
+        }
+
+        return openingHours;
+    }
+
+    private static int startMinute(LocalTime start) {
+        return start.getHour() * 60 + start.getMinute();
+    }
+
+    private static int endMinute(LocalTime end) {
+
+        var minute = end.getHour() * 60 + end.getMinute();
+
+        return end.getSecond() == 0 && end.getNano() == 0 ? minute : minute + 1;
+    }
+
+    private static LocalTime toTime(int minuteOfDay) {
+        return minuteOfDay == MINUTES_PER_DAY ? LocalTime.MAX : LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof WeeklySchedule schedule && Arrays.equals(bounds, schedule.bounds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bounds);
+    }
+
+}
@@ -1,17 +1,24 @@
 package com.github.rafaelfernandes.client.application.domain.service;
 
 import com.github.rafaelfernandes.common.annotations.UseCase;
-import com.github.rafaelfernandes.common.enums.Cuisine;
-import com.github.rafaelfernandes.client.exception.RestaurantDuplicateException;
 import com.github.rafaelfernandes.client.exception.RestaurantNotFoundException;
 import com.github.rafaelfernandes.client.application.domain.model.Client;
+import com.github.rafaelfernandes.client.application.domain.model.ClientPage;
+import com.github.rafaelfernandes.client.application.domain.model.CreateResult;
+import com.github.rafaelfernandes.client.application.domain.model.NearbySearch;
+import com.github.rafaelfernandes.client.application.domain.model.Pagination;
+import com.github.rafaelfernandes.client.application.domain.model.RestaurantVersion;
+import com.github.rafaelfernandes.client.application.domain.model.SearchCriteria;
+import com.github.rafaelfernandes.client.application.domain.model.VersionPage;
 import com.github.rafaelfernandes.client.application.port.in.ManageRestaurantUseCase;
 import com.github.rafaelfernandes.client.application.port.out.ManageRestaurantPort;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.util.ObjectUtils;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.function.Consumer;
 
 @UseCase
 @RequiredArgsConstructor
@@ -23,14 +30,47 @@ public class ManageRestaurantService implements ManageRestaurantUseCase {
     @Transactional
     public Client.RestaurantId create(Client restaurant) {
 
-        if (Boolean.TRUE.equals(manageRestaurantPort.existsName(restaurant.getName()))) throw new RestaurantDuplicateException();
-
         var restaurantNew = manageRestaurantPort.save(restaurant);
 
         return restaurantNew.getRestaurantId();
 
     }
 
+    // not transactional: the port commits chunk by chunk, and an outer transaction would hold a second connection
+    // for the whole batch without being able to undo what the chunks committed
+    @Override
+    public List<CreateResult> createAll(List<Client> restaurants) {
+
+        var names = restaurants.stream()
+                .map(Client::getName)
+                .toList();
+
+        var taken = new HashSet<>(manageRestaurantPort.findExistingNames(names));
+
+        var results = new ArrayList<CreateResult>(restaurants.size());
+        var restaurantsNew = new ArrayList<Client>(restaurants.size());
+
+        for (Client restaurant : restaurants) {
+
+            if (!taken.add(restaurant.getName())) {
+                results.add(CreateResult.duplicate());
+                continue;
+            }
+
+            restaurantsNew.add(restaurant);
+            results.add(CreateResult.created(restaurant.getRestaurantId()));
+        }
+
+        // names a concurrent insert took after the lookup above
+        var refused = manageRestaurantPort.saveAll(restaurantsNew);
+
+        if (!refused.isEmpty()) results.replaceAll(result ->
+                refused.contains(result.restaurantId()) ? CreateResult.duplicate() : result);
+
+        return results;
+
+    }
+
     @Override
     public Client findById(Client.RestaurantId restaurantId) {
 
@@ -40,17 +80,52 @@ public class ManageRestaurantService implements ManageRestaurantUseCase {
     }
 
     @Override
-    public List<Client> findAllBy(String name, String location, List<Cuisine> cuisines) {
+    public RestaurantVersion findVersionById(Client.RestaurantId restaurantId) {
 
-        if (ObjectUtils.isEmpty(name) && ObjectUtils.isEmpty(location) && (cuisines == null || cuisines.isEmpty())) {
-            throw new IllegalArgumentException("Pelo menos um dos parâmetros deve ser fornecido.");
-        }
+        return manageRestaurantPort.findVersionById(restaurantId)
+                .orElseThrow(RestaurantNotFoundException::new);
+
+    }
+
+    @Override
+    public ClientPage findAllBy(SearchCriteria criteria, Pagination pagination) {
+
+        criteria.requireAnyFilter();
+
+        var page = manageRestaurantPort.findAllBy(criteria, pagination);
+
+        if (page.clients().isEmpty() && pagination.cursor() == null) throw new RestaurantNotFoundException();
+
+        return page;
+
+    }
+
+    @Override
+    public VersionPage findVersionsBy(SearchCriteria criteria, Pagination pagination) {
+
+        criteria.requireAnyFilter();
+
+        return manageRestaurantPort.findVersionsBy(criteria, pagination);
+
+    }
+
+    @Override
+    public void exportAllBy(SearchCriteria criteria, Consumer<Client> consumer) {
+
+        criteria.requireAnyFilter();
+
+        manageRestaurantPort.streamAllBy(criteria, consumer);
+
+    }
+
+    @Override
+    public List<Client> findNearby(NearbySearch search) {
 
-        var list = manageRestaurantPort.findAllBy(name, location, cuisines);
+        var restaurants = manageRestaurantPort.findNearby(search);
 
-        if (list.isEmpty()) throw new RestaurantNotFoundException();
+        if (restaurants.isEmpty()) throw new RestaurantNotFoundException();
 
-        return list;
+        return restaurants;
 
     }
 }
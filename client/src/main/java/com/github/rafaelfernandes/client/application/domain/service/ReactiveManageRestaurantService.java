@@ -0,0 +1,37 @@
+package com.github.rafaelfernandes.client.application.domain.service;
+
+import com.github.rafaelfernandes.common.annotations.UseCase;
+import com.github.rafaelfernandes.client.exception.RestaurantNotFoundException;
+import com.github.rafaelfernandes.client.application.domain.model.Client;
+import com.github.rafaelfernandes.client.application.domain.model.ClientPage;
+import com.github.rafaelfernandes.client.application.domain.model.Pagination;
+import com.github.rafaelfernandes.client.application.domain.model.SearchCriteria;
+import com.github.rafaelfernandes.client.application.port.in.ReactiveManageRestaurantUseCase;
+import com.github.rafaelfernandes.client.application.port.out.ReactiveRestaurantPort;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@UseCase
+@RequiredArgsConstructor
+public class ReactiveManageRestaurantService implements ReactiveManageRestaurantUseCase {
+
+    private final ReactiveRestaurantPort reactiveRestaurantPort;
+
+    @Override
+    public Mono<Client> findById(Client.RestaurantId restaurantId) {
+
+        return reactiveRestaurantPort.findById(restaurantId)
+                .switchIfEmpty(Mono.error(RestaurantNotFoundException::new));
+
+    }
+
+    @Override
+    public Mono<ClientPage> findAllBy(SearchCriteria criteria, Pagination pagination) {
+
+        return Mono.fromCallable(criteria::requireAnyFilter)
+                .flatMap(filled -> reactiveRestaurantPort.findAllBy(filled, pagination))
+                .filter(page -> !page.clients().isEmpty() || pagination.cursor() != null)
+                .switchIfEmpty(Mono.error(RestaurantNotFoundException::new));
+
+    }
+}
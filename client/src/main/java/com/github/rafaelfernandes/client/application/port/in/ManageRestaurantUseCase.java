@@ -1,17 +1,35 @@
 package com.github.rafaelfernandes.client.application.port.in;
 
-import com.github.rafaelfernandes.common.enums.Cuisine;
 import com.github.rafaelfernandes.client.application.domain.model.Client;
+import com.github.rafaelfernandes.client.application.domain.model.ClientPage;
+import com.github.rafaelfernandes.client.application.domain.model.CreateResult;
+import com.github.rafaelfernandes.client.application.domain.model.NearbySearch;
+import com.github.rafaelfernandes.client.application.domain.model.Pagination;
+import com.github.rafaelfernandes.client.application.domain.model.RestaurantVersion;
+import com.github.rafaelfernandes.client.application.domain.model.SearchCriteria;
+import com.github.rafaelfernandes.client.application.domain.model.VersionPage;
 
 import java.util.List;
+import java.util.function.Consumer;
+
 
 public interface ManageRestaurantUseCase {
 
     Client.RestaurantId create(Client command);
 
+    List<CreateResult> createAll(List<Client> commands);
+
     Client findById(Client.RestaurantId restaurantId);
 
-    List<Client> findAllBy(String name, String location, List<Cuisine> cuisines);
+    RestaurantVersion findVersionById(Client.RestaurantId restaurantId);
+
+    ClientPage findAllBy(SearchCriteria criteria, Pagination pagination);
+
+    VersionPage findVersionsBy(SearchCriteria criteria, Pagination pagination);
+
+    void exportAllBy(SearchCriteria criteria, Consumer<Client> consumer);
+
+    List<Client> findNearby(NearbySearch search);
 
 
 }
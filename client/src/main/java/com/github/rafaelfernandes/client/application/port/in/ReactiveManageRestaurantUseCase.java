@@ -0,0 +1,15 @@
+package com.github.rafaelfernandes.client.application.port.in;
+
+import com.github.rafaelfernandes.client.application.domain.model.Client;
+import com.github.rafaelfernandes.client.application.domain.model.ClientPage;
+import com.github.rafaelfernandes.client.application.domain.model.Pagination;
+import com.github.rafaelfernandes.client.application.domain.model.SearchCriteria;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveManageRestaurantUseCase {
+
+    Mono<Client> findById(Client.RestaurantId restaurantId);
+
+    Mono<ClientPage> findAllBy(SearchCriteria criteria, Pagination pagination);
+
+}
@@ -1,10 +1,18 @@
 package com.github.rafaelfernandes.client.application.port.out;
 
-import com.github.rafaelfernandes.common.enums.Cuisine;
 import com.github.rafaelfernandes.client.application.domain.model.Client;
+import com.github.rafaelfernandes.client.application.domain.model.ClientPage;
+import com.github.rafaelfernandes.client.application.domain.model.NearbySearch;
+import com.github.rafaelfernandes.client.application.domain.model.Pagination;
+import com.github.rafaelfernandes.client.application.domain.model.RestaurantVersion;
+import com.github.rafaelfernandes.client.application.domain.model.SearchCriteria;
+import com.github.rafaelfernandes.client.application.domain.model.VersionPage;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface ManageRestaurantPort {
 
@@ -12,7 +20,19 @@ public interface ManageRestaurantPort {
 
     Client save(Client restaurant);
 
+    Set<String> findExistingNames(Collection<String> names);
+
+    Set<Client.RestaurantId> saveAll(List<Client> restaurants);
+
     Optional<Client> findById(Client.RestaurantId id);
 
-    List<Client> findAllBy(String name, String location, List<Cuisine> cuisines);
+    Optional<RestaurantVersion> findVersionById(Client.RestaurantId id);
+
+    ClientPage findAllBy(SearchCriteria criteria, Pagination pagination);
+
+    VersionPage findVersionsBy(SearchCriteria criteria, Pagination pagination);
+
+    void streamAllBy(SearchCriteria criteria, Consumer<Client> consumer);
+
+    List<Client> findNearby(NearbySearch search);
 }
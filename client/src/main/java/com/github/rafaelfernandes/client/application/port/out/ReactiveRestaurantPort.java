@@ -0,0 +1,17 @@
+package com.github.rafaelfernandes.client.application.port.out;
+
+import com.github.rafaelfernandes.client.application.domain.model.Client;
+import com.github.rafaelfernandes.client.application.domain.model.ClientPage;
+import com.github.rafaelfernandes.client.application.domain.model.Pagination;
+import com.github.rafaelfernandes.client.application.domain.model.SearchCriteria;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of the read side of {@link ManageRestaurantPort}.
+ */
+public interface ReactiveRestaurantPort {
+
+    Mono<Client> findById(Client.RestaurantId id);
+
+    Mono<ClientPage> findAllBy(SearchCriteria criteria, Pagination pagination);
+}
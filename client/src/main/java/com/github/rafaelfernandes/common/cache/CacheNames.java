@@ -0,0 +1,16 @@
+package com.github.rafaelfernandes.common.cache;
+
+/**
+ * Names of the caches declared in {@code spring.cache.cache-names}; size and expiry come from
+ * {@code spring.cache.caffeine.spec}.
+ */
+public final class CacheNames {
+
+    public static final String RESTAURANTS = "restaurants";
+
+    public static final String RESTAURANT_RESPONSES = "restaurant-responses";
+
+    private CacheNames() {
+    }
+
+}
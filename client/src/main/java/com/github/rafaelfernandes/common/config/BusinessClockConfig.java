@@ -0,0 +1,22 @@
+package com.github.rafaelfernandes.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+/**
+ * Opening hours are local times of the restaurants, so "now" must be read in their zone rather than in whatever zone
+ * the server runs in.
+ */
+@Configuration(proxyBeanMethods = false)
+public class BusinessClockConfig {
+
+    @Bean
+    Clock businessClock(@Value("${client.business-zone}") ZoneId businessZone) {
+        return Clock.system(businessZone);
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.github.rafaelfernandes.common.enums;
+
+public enum CuisineMatch {
+
+    ANY, ALL;
+
+}
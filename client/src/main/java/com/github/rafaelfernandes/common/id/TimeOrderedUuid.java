@@ -0,0 +1,42 @@
+package com.github.rafaelfernandes.common.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version 7 UUIDs (RFC 9562): a 48-bit Unix millisecond timestamp followed by a 12-bit counter and 62 random
+ * bits. Ids from this JVM sort in creation order, so B-tree inserts land on the rightmost page instead of
+ * splitting pages all over the index the way random version 4 ids do.
+ */
+public final class TimeOrderedUuid {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final int COUNTER_BITS = 12;
+
+    // last issued timestamp and counter, packed as (millis << 12) | counter
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private TimeOrderedUuid() {
+    }
+
+    public static UUID next() {
+
+        long stamp = nextStamp();
+
+        long mostSignificant = (stamp >>> COUNTER_BITS) << 16 | 0x7000L | (stamp & 0xfffL);
+        long leastSignificant = RANDOM.nextLong() & 0x3fffffffffffffffL | 0x8000000000000000L;
+
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    // A full counter or a clock that went back borrows the next millisecond, which keeps ids strictly increasing.
+    private static long nextStamp() {
+
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+
+        return LAST.updateAndGet(last -> Math.max(now, last + 1));
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.github.rafaelfernandes.common.metrics;
+
+/**
+ * Results that are not collections but still carry a number of items worth recording, such as a page.
+ */
+public interface Sized {
+
+    int size();
+
+}
@@ -0,0 +1,73 @@
+package com.github.rafaelfernandes.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the SQL statements issued for the request being served. {@link StatementMetricsFilter} binds a fresh count
+ * to the request thread; async work such as the export stream carries it to its own thread through
+ * {@link #propagate}, and the R2DBC client takes it along through {@link #capture}. Hibernate reports every
+ * statement it prepares to {@link #inspect}, registered through {@code hibernate.session_factory.statement_inspector}.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<AtomicLong> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+
+        var statements = CURRENT.get();
+
+        if (statements != null) statements.incrementAndGet();
+
+        return sql;
+    }
+
+    /**
+     * Returns a callback that adds one statement to the count of the request this thread serves, from whichever
+     * thread ends up running it; a no-op outside of a request.
+     */
+    public static Runnable capture() {
+
+        var statements = CURRENT.get();
+
+        return statements == null ? () -> { } : statements::incrementAndGet;
+    }
+
+    /**
+     * Wraps {@code task} so statements it issues on another thread still count for the request that submitted it.
+     */
+    public static Runnable propagate(Runnable task) {
+
+        var statements = CURRENT.get();
+
+        if (statements == null) return task;
+
+        return () -> {
+
+            var previous = CURRENT.get();
+            CURRENT.set(statements);
+
+            try {
+                task.run();
+            } finally {
+                if (previous == null) CURRENT.remove();
+                else CURRENT.set(previous);
+            }
+        };
+    }
+
+    static AtomicLong bind() {
+
+        var statements = new AtomicLong();
+        CURRENT.set(statements);
+
+        return statements;
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+}
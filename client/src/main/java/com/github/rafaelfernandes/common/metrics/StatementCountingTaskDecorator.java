@@ -0,0 +1,18 @@
+package com.github.rafaelfernandes.common.metrics;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applied by Spring Boot to {@code applicationTaskExecutor}, which runs MVC async work such as the export stream,
+ * so the statements of that work count for the request it belongs to.
+ */
+@Component
+public class StatementCountingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return StatementCounter.propagate(runnable);
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.github.rafaelfernandes.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Times every public method of {@code @UseCase} and {@code @PersistenceAdapter} beans, and records how many
+ * restaurants each port call returned. {@link Mono} results are timed from subscription to completion.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class StereotypeMetricsAspect {
+
+    public static final String USE_CASE_TIMER = "client.use.case";
+
+    public static final String PORT_TIMER = "client.port";
+
+    public static final String PORT_RESULTS = "client.port.results";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("@within(com.github.rafaelfernandes.common.annotations.UseCase) && execution(public * *(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(USE_CASE_TIMER, joinPoint, false);
+    }
+
+    @Around("@within(com.github.rafaelfernandes.common.annotations.PersistenceAdapter) && execution(public * *(..))")
+    public Object timePort(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(PORT_TIMER, joinPoint, true);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint, boolean countResults) throws Throwable {
+
+        var type = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        var method = joinPoint.getSignature().getName();
+
+        var sample = Timer.start(meterRegistry);
+        Object result;
+
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            stop(sample, name, type, method, e);
+            throw e;
+        }
+
+        if (result instanceof Mono<?> mono) {
+            return Mono.defer(() -> {
+
+                var reactiveSample = Timer.start(meterRegistry);
+
+                return mono
+                        .doOnNext(value -> { if (countResults) count(type, method, value); })
+                        .doOnSuccess(value -> stop(reactiveSample, name, type, method, null))
+                        .doOnError(e -> stop(reactiveSample, name, type, method, e));
+            });
+        }
+
+        stop(sample, name, type, method, null);
+
+        if (countResults) count(type, method, result);
+
+        return result;
+    }
+
+    private void stop(Timer.Sample sample, String name, String type, String method, Throwable exception) {
+        sample.stop(Timer.builder(name)
+                .tag("class", type)
+                .tag("method", method)
+                .tag("exception", exception == null ? "none" : exception.getClass().getSimpleName())
+                .register(meterRegistry));
+    }
+
+    private void count(String type, String method, Object result) {
+
+        var size = sizeOf(result);
+
+        if (size < 0) return;
+
+        DistributionSummary.builder(PORT_RESULTS)
+                .baseUnit("restaurants")
+                .tag("class", type)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(size);
+    }
+
+    private static int sizeOf(Object result) {
+
+        if (result instanceof Sized sized) return sized.size();
+        if (result instanceof Collection<?> collection) return collection.size();
+        if (result instanceof Optional<?> optional) return optional.isPresent() ? 1 : 0;
+
+        return -1;
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.github.rafaelfernandes.common.text;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Folds free text into the form searches compare: decomposed (NFD) with the combining marks dropped, lower case and
+ * single spaces, so "  São   PAULO" and "sao paulo" meet on the same key. Applied once when a restaurant is written
+ * and once to each query parameter, so the database only ever compares already folded strings.
+ */
+public final class SearchKey {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SearchKey() {
+    }
+
+    public static String normalize(String text) {
+
+        if (text == null) return null;
+
+        var withoutMarks = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+
+        return WHITESPACE.matcher(withoutMarks.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+}
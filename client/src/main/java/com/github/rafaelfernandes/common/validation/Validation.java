@@ -5,6 +5,7 @@ import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
 
 import java.util.Set;
+import java.util.function.Predicate;
 
 import static jakarta.validation.Validation.buildDefaultValidatorFactory;
 
@@ -24,4 +25,14 @@ public class Validation {
       throw new ConstraintViolationException(violations);
     }
   }
+
+  /**
+   * Skips the reflective validation when {@code wellFormed} already accepts the subject. The predicate must never
+   * accept what the annotations reject; whatever it rejects is validated in full, so the errors stay the same.
+   */
+  public static <T> void validate(T subject, Predicate<? super T> wellFormed) {
+    if (!wellFormed.test(subject)) {
+      validate(subject);
+    }
+  }
 }
@@ -3,18 +3,36 @@ package com.github.rafaelfernandes.common.validation;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
-import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class ValueOfEnumValidator implements ConstraintValidator<ValueOfEnum, CharSequence> {
-    private List<String> acceptedValues;
+
+    /**
+     * Constant names per enum class, built once and shared by every validator instance.
+     */
+    private static final ClassValue<Set<String>> NAMES = new ClassValue<>() {
+        @Override
+        protected Set<String> computeValue(Class<?> enumClass) {
+            return Stream.of(enumClass.getEnumConstants())
+                    .map(constant -> ((Enum<?>) constant).name())
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+    };
+
+    private Set<String> acceptedValues;
 
     @Override
     public void initialize(ValueOfEnum annotation) {
-        acceptedValues = Stream.of(annotation.enumClass().getEnumConstants())
-                .map(Enum::name)
-                .collect(Collectors.toList());
+        acceptedValues = NAMES.get(annotation.enumClass());
+    }
+
+    /**
+     * Whether {@code value} is the name of one of the constants of {@code enumClass}.
+     */
+    public static boolean accepts(Class<? extends Enum<?>> enumClass, CharSequence value) {
+        return value != null && contains(NAMES.get(enumClass), value);
     }
 
     @Override
@@ -23,6 +41,10 @@ public class ValueOfEnumValidator implements ConstraintValidator<ValueOfEnum, Ch
             return true;
         }
 
-        return acceptedValues.contains(value.toString());
+        return contains(acceptedValues, value);
+    }
+
+    private static boolean contains(Set<String> names, CharSequence value) {
+        return value instanceof String name ? names.contains(name) : names.contains(value.toString());
     }
 }
@@ -0,0 +1,43 @@
+package com.github.rafaelfernandes.common.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs every Tomcat request, and the async work of MVC such as the export stream, on its own virtual thread.
+ * Concurrency is then bounded by the Hikari pool rather than by the Tomcat thread pool, so size the pool for
+ * the database, not for the number of requests in flight.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "client.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    @Bean
+    TomcatProtocolHandlerCustomizer<?> virtualThreadsProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(newVirtualThreadExecutor("http-vt-"));
+    }
+
+    @Bean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    AsyncTaskExecutor applicationTaskExecutor(ObjectProvider<TaskDecorator> taskDecorator) {
+
+        var executor = new TaskExecutorAdapter(newVirtualThreadExecutor("task-vt-"));
+        taskDecorator.ifUnique(executor::setTaskDecorator);
+
+        return executor;
+    }
+
+    private static ExecutorService newVirtualThreadExecutor(String prefix) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 0).factory());
+    }
+
+}
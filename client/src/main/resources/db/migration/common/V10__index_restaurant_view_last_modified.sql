@@ -0,0 +1,2 @@
+-- Each instance catches its proximity index up with the rows changed since its previous run.
+CREATE INDEX idx_restaurant_view_last_modified ON restaurant_view (last_modified);
@@ -0,0 +1,57 @@
+CREATE TABLE address (
+    id                  UUID         NOT NULL,
+    street              VARCHAR(255) NOT NULL,
+    number              INTEGER      NOT NULL,
+    addittional_details VARCHAR(255),
+    neighborhood        VARCHAR(255) NOT NULL,
+    city                VARCHAR(255) NOT NULL,
+    state               VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_address PRIMARY KEY (id)
+);
+
+CREATE TABLE restaurant (
+    id            UUID         NOT NULL,
+    name          VARCHAR(255),
+    register      TIMESTAMP(6),
+    version       BIGINT,
+    last_modified TIMESTAMP(6),
+    tables        INTEGER,
+    address_id    UUID,
+    full_search   TEXT,
+    cuisine_mask  BIGINT       NOT NULL,
+    CONSTRAINT pk_restaurant PRIMARY KEY (id),
+    CONSTRAINT uk_restaurant_name UNIQUE (name),
+    CONSTRAINT uk_restaurant_address UNIQUE (address_id),
+    CONSTRAINT fk_restaurant_address FOREIGN KEY (address_id) REFERENCES address (id)
+);
+
+CREATE INDEX idx_full_search ON restaurant (full_search);
+CREATE INDEX idx_cuisine_mask ON restaurant (cuisine_mask);
+
+CREATE TABLE opening_hour (
+    id            UUID         NOT NULL,
+    day_of_week   VARCHAR(255),
+    start_time    TIME(6),
+    end_time      TIME(6),
+    restaurant_id UUID,
+    CONSTRAINT pk_opening_hour PRIMARY KEY (id),
+    CONSTRAINT fk_opening_hour_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurant (id)
+);
+
+CREATE TABLE cuisine (
+    id            UUID         NOT NULL,
+    cusine        VARCHAR(255),
+    restaurant_id UUID,
+    CONSTRAINT pk_cuisine PRIMARY KEY (id),
+    CONSTRAINT fk_cuisine_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurant (id)
+);
+
+CREATE TABLE search_token (
+    id            UUID         NOT NULL,
+    term          VARCHAR(255) NOT NULL,
+    restaurant_id UUID,
+    CONSTRAINT pk_search_token PRIMARY KEY (id),
+    CONSTRAINT fk_search_token_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurant (id)
+);
+
+CREATE INDEX idx_search_token_term ON search_token (term, restaurant_id);
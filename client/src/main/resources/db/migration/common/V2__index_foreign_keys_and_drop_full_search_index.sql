@@ -0,0 +1,7 @@
+-- Child collections are loaded and deleted by restaurant_id; PostgreSQL does not index FK columns on its own.
+CREATE INDEX idx_opening_hour_restaurant ON opening_hour (restaurant_id);
+CREATE INDEX idx_cuisine_restaurant ON cuisine (restaurant_id);
+CREATE INDEX idx_search_token_restaurant ON search_token (restaurant_id);
+
+-- Searches go through search_token, nothing filters on full_search: the B-tree only slowed writes down.
+DROP INDEX idx_full_search;
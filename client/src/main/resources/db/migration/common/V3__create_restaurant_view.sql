@@ -0,0 +1,16 @@
+-- Read model: one row per restaurant, filled by the adapter on every write and read without joins.
+-- Address, opening hours and cuisines travel packed in payload; name and cuisine_mask stay columns to search on.
+CREATE TABLE restaurant_view (
+    id            UUID         NOT NULL,
+    name          VARCHAR(255) NOT NULL,
+    register      TIMESTAMP(6),
+    version       BIGINT,
+    last_modified TIMESTAMP(6),
+    tables        INTEGER,
+    cuisine_mask  BIGINT       NOT NULL,
+    payload       BYTEA        NOT NULL,
+    CONSTRAINT pk_restaurant_view PRIMARY KEY (id),
+    CONSTRAINT fk_restaurant_view_restaurant FOREIGN KEY (id) REFERENCES restaurant (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_restaurant_view_name ON restaurant_view (name);
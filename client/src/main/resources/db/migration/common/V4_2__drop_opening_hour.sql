@@ -0,0 +1,4 @@
+ALTER TABLE restaurant ALTER COLUMN weekly_schedule SET NOT NULL;
+ALTER TABLE restaurant_view ALTER COLUMN weekly_schedule SET NOT NULL;
+
+DROP TABLE opening_hour;
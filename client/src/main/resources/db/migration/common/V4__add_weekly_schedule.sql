@@ -0,0 +1,4 @@
+-- Opening hours move to one binary column of minute-of-week intervals, see WeeklySchedule.
+-- V4_2 makes it required and drops opening_hour.
+ALTER TABLE restaurant ADD COLUMN weekly_schedule BYTEA;
+ALTER TABLE restaurant_view ADD COLUMN weekly_schedule BYTEA;
@@ -0,0 +1,13 @@
+-- Open-at search index: one row per interval of restaurant.weekly_schedule, in minutes from Monday 00:00.
+-- Intervals never cross midnight, so a search range scans the starts of one day only.
+CREATE TABLE opening_interval (
+    id            UUID    NOT NULL,
+    start_minute  INTEGER NOT NULL,
+    end_minute    INTEGER NOT NULL,
+    restaurant_id UUID,
+    CONSTRAINT pk_opening_interval PRIMARY KEY (id),
+    CONSTRAINT fk_opening_interval_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurant (id)
+);
+
+CREATE INDEX idx_opening_interval_start ON opening_interval (start_minute, end_minute, restaurant_id);
+CREATE INDEX idx_opening_interval_restaurant ON opening_interval (restaurant_id);
@@ -0,0 +1,6 @@
+-- Optional coordinates of the address, copied to the read model so the proximity index loads without joins.
+ALTER TABLE address ADD COLUMN latitude DOUBLE PRECISION;
+ALTER TABLE address ADD COLUMN longitude DOUBLE PRECISION;
+
+ALTER TABLE restaurant_view ADD COLUMN latitude DOUBLE PRECISION;
+ALTER TABLE restaurant_view ADD COLUMN longitude DOUBLE PRECISION;
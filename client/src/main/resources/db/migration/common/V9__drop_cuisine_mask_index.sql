@@ -0,0 +1,2 @@
+-- Searches test the mask with bitand(), which no B-tree can seek on, and they read restaurant_view, not restaurant.
+DROP INDEX idx_cuisine_mask;
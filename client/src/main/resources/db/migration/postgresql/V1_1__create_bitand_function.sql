@@ -0,0 +1,4 @@
+-- H2 ships BITAND; the reactive adapter issues it as plain SQL, so PostgreSQL gets the same function.
+CREATE FUNCTION bitand(bigint, bigint) RETURNS bigint
+    AS 'SELECT $1 & $2'
+    LANGUAGE SQL IMMUTABLE STRICT PARALLEL SAFE;
@@ -2,8 +2,15 @@ package com.github.rafaelfernandes.client.adapter.in.web;
 
 import com.github.rafaelfernandes.client.adapter.in.web.request.AddressRequest;
 import com.github.rafaelfernandes.client.adapter.in.web.request.ClientRequest;
+import com.github.rafaelfernandes.client.adapter.in.web.request.CuisineRequest;
+import com.github.rafaelfernandes.client.adapter.in.web.request.OpeningHourRequest;
 import com.github.rafaelfernandes.client.adapter.in.web.response.ClientResponse;
 import com.github.rafaelfernandes.client.adapter.out.persistence.RestaurantRepository;
+import com.github.rafaelfernandes.common.cache.CacheNames;
+import com.github.rafaelfernandes.common.metrics.StatementMetricsFilter;
+import com.github.rafaelfernandes.common.metrics.StereotypeMetricsAspect;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.http.MediaType;
 import util.GenerateData;
@@ -15,6 +22,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -22,6 +34,8 @@ import java.net.URI;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static org.assertj.core.api.Assertions.assertThat;
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -33,6 +47,12 @@ public class ClientControllerTest {
     @Autowired
     private RestaurantRepository restaurantRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @BeforeEach
     void setup(){
         restTemplate.getRestTemplate().setInterceptors(
@@ -123,6 +143,59 @@ public class ClientControllerTest {
 
     }
 
+    @Nested
+    class CreateAll {
+
+        @Test
+        void createAllWithPerItemResults() {
+
+            AddressRequest addressRequest = GenerateData.generateAddressRequest();
+
+            var stored = GenerateData.gerenRestaurantRequest();
+            createRestaurantPost(stored);
+
+            var fresh = new ClientRequest("Restaurante " + UUID.randomUUID(), addressRequest, 10, openingHours, cuisines);
+            var invalid = new ClientRequest("", addressRequest, 10, openingHours, cuisines);
+
+            ResponseEntity<String> response = restTemplate
+                    .postForEntity(
+                            "/restaurants/batch",
+                            List.of(stored, fresh, invalid, fresh),
+                            String.class
+                    );
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+            DocumentContext documentContext = JsonPath.parse(response.getBody());
+
+            List<Integer> status = documentContext.read("$[*].status");
+            assertThat(status).containsExactly(409, 201, 400, 409);
+
+            String id = documentContext.read("$[1].id");
+            ResponseEntity<String> created = restTemplate.getForEntity("/restaurants/" + id, String.class);
+            assertThat(created.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+            String error = documentContext.read("$[2].error");
+            assertThat(error).contains("name: O campo deve estar preenchido");
+
+        }
+
+        @Test
+        void createAllEmpty() {
+
+            ResponseEntity<String> response = restTemplate
+                    .postForEntity(
+                            "/restaurants/batch",
+                            List.of(),
+                            String.class
+                    );
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+        }
+
+    }
+
     @Nested
     class FindById {
 
@@ -205,6 +278,50 @@ public class ClientControllerTest {
 
         }
 
+        @Test
+        void validateFoundFromCache(){
+
+            var request = GenerateData.gerenRestaurantRequest();
+
+            URI location = createRestaurantPost(request).getHeaders().getLocation();
+
+            var stats = ((CaffeineCache) cacheManager.getCache(CacheNames.RESTAURANT_RESPONSES)).getNativeCache().stats();
+
+            ResponseEntity<String> first = restTemplate.getForEntity(location, String.class);
+            ResponseEntity<String> response = restTemplate.getForEntity(location, String.class);
+
+            var hits = ((CaffeineCache) cacheManager.getCache(CacheNames.RESTAURANT_RESPONSES)).getNativeCache().stats()
+                    .minus(stats)
+                    .hitCount();
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(hits).isEqualTo(1);
+            assertThat(response.getBody()).isEqualTo(first.getBody());
+            assertThat(response.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag());
+
+        }
+
+        @Test
+        void validateNotModified(){
+
+            var request = GenerateData.gerenRestaurantRequest();
+
+            URI location = createRestaurantPost(request).getHeaders().getLocation();
+
+            ResponseEntity<String> found = restTemplate.getForEntity(location, String.class);
+
+            var headers = new HttpHeaders();
+            headers.setIfNoneMatch(found.getHeaders().getETag());
+
+            ResponseEntity<String> response = restTemplate
+                    .exchange(location, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+            assertThat(found.getHeaders().getETag()).isNotBlank();
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(response.getBody()).isNull();
+
+        }
+
     }
 
     @Nested
@@ -290,6 +407,62 @@ public class ClientControllerTest {
 
         }
 
+        @Test
+        void validateNotModified(){
+
+            var request = GenerateData.gerenRestaurantRequest();
+
+            createRestaurantPost(request);
+
+            ResponseEntity<String> found = restTemplate
+                    .getForEntity("/restaurants/?name={name}", String.class, request.name());
+
+            var headers = new HttpHeaders();
+            headers.setIfNoneMatch(found.getHeaders().getETag());
+
+            ResponseEntity<String> response = restTemplate
+                    .exchange("/restaurants/?name={name}", HttpMethod.GET, new HttpEntity<>(headers), String.class, request.name());
+
+            assertThat(found.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(found.getHeaders().getLastModified()).isPositive();
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(response.getBody()).isNull();
+
+        }
+
+        @Test
+        void validateModifiedWhenThePageGainsANextCursor(){
+
+            // Arrange
+            var first = GenerateData.gerenRestaurantRequest();
+            var second = new ClientRequest(first.name() + " Filial", first.address(), first.tables(),
+                    first.openingHours(), first.cuisines());
+
+            createRestaurantPost(first);
+
+            ResponseEntity<String> found = restTemplate
+                    .getForEntity("/restaurants/?location={location}&size=1", String.class, first.address().street());
+
+            createRestaurantPost(second);
+
+            var headers = new HttpHeaders();
+            headers.setIfNoneMatch(found.getHeaders().getETag());
+
+            // Act
+            ResponseEntity<String> response = restTemplate
+                    .exchange("/restaurants/?location={location}&size=1", HttpMethod.GET, new HttpEntity<>(headers),
+                            String.class, first.address().street());
+
+            // Assert
+            assertThat(found.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(found.getHeaders().getFirst(ClientController.NEXT_CURSOR_HEADER)).isNull();
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat((String) JsonPath.parse(response.getBody()).read("$.[0].name")).isEqualTo(first.name());
+            assertThat(response.getHeaders().getFirst(ClientController.NEXT_CURSOR_HEADER)).isNotNull();
+            assertThat(response.getHeaders().getETag()).isNotEqualTo(found.getHeaders().getETag());
+
+        }
+
         @Test
         void validateSuccessLocation(){
 
@@ -344,6 +517,198 @@ public class ClientControllerTest {
 
 
 
+        }
+
+    }
+
+    @Nested
+    class ExportAllBy {
+
+        @Test
+        void validateEmptyParameters(){
+
+            ResponseEntity<String> response = restTemplate
+                    .getForEntity(
+                            "/restaurants/export?name=&location=",
+                            String.class
+                    );
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+            DocumentContext documentContext = JsonPath.parse(response.getBody());
+
+            String error = documentContext.read("$.errors");
+
+            assertThat(error).isEqualTo("Pelo menos um dos parâmetros deve ser fornecido.");
+
+        }
+
+        @Test
+        void validateSuccessName(){
+
+            var request = GenerateData.gerenRestaurantRequest();
+
+            createRestaurantPost(request);
+
+            ResponseEntity<String> response = restTemplate
+                    .getForEntity(
+                            "/restaurants/export?name={name}",
+                            String.class,
+                            request.name()
+                    );
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+
+            var lines = response.getBody().lines().toList();
+
+            assertThat(lines).hasSize(1);
+
+            String name = JsonPath.parse(lines.get(0)).read("$.name");
+
+            assertThat(name).isEqualTo(request.name());
+
+        }
+
+    }
+
+    @Nested
+    class FindNearby {
+
+        @Test
+        void validateClosestFirst(){
+
+            // Arrange
+
+            var latitude = ThreadLocalRandom.current().nextDouble(-60, 60);
+            var longitude = ThreadLocalRandom.current().nextDouble(-170, 170);
+
+            var far = restaurantAt(latitude + 0.1, longitude);
+            var near = restaurantAt(latitude + 0.01, longitude);
+            var outside = restaurantAt(latitude + 1, longitude);
+
+            createRestaurantPost(far);
+            createRestaurantPost(outside);
+            createRestaurantPost(near);
+
+            // Act
+
+            ResponseEntity<String> response = restTemplate
+                    .getForEntity(
+                            "/restaurants/nearby?latitude={latitude}&longitude={longitude}&radius=20",
+                            String.class,
+                            latitude,
+                            longitude
+                    );
+
+            // Assert
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+            DocumentContext documentContext = JsonPath.parse(response.getBody());
+
+            List<String> names = documentContext.read("$[*].name");
+            Number nearestLatitude = documentContext.read("$[0].address.latitude");
+
+            assertThat(names).containsExactly(near.name(), far.name());
+            assertThat(nearestLatitude.doubleValue()).isEqualTo(latitude + 0.01);
+
+        }
+
+        @Test
+        void validateRadiusTooLarge(){
+
+            ResponseEntity<String> response = restTemplate
+                    .getForEntity(
+                            "/restaurants/nearby?latitude=0&longitude=0&radius=500",
+                            String.class
+                    );
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+        }
+
+        private ClientRequest restaurantAt(double latitude, double longitude) {
+            var request = GenerateData.gerenRestaurantRequest();
+
+            return new ClientRequest(
+                    request.name(),
+                    GenerateData.generateAddressRequest(latitude, longitude),
+                    request.tables(),
+                    request.openingHours(),
+                    request.cuisines()
+            );
+        }
+
+    }
+
+    @Nested
+    class Metrics {
+
+        @Test
+        void validateSearchMetrics(){
+
+            // Arrange
+            var request = GenerateData.gerenRestaurantRequest();
+
+            createRestaurantPost(request);
+
+            // Act
+            ResponseEntity<String> response = restTemplate
+                    .getForEntity("/restaurants/?name={name}", String.class, request.name());
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+            var useCase = meterRegistry.find(StereotypeMetricsAspect.USE_CASE_TIMER)
+                    .tags("method", "findAllBy", "exception", "none")
+                    .timer();
+
+            var results = meterRegistry.find(StereotypeMetricsAspect.PORT_RESULTS)
+                    .tags("class", "RestaurantPersistenceAdapter", "method", "findAllBy")
+                    .summary();
+
+            var statements = meterRegistry.find(StatementMetricsFilter.REQUEST_STATEMENTS)
+                    .tags("method", "GET", "uri", "/restaurants/")
+                    .summary();
+
+            assertThat(useCase).isNotNull();
+            assertThat(useCase.count()).isPositive();
+            assertThat(results).isNotNull();
+            assertThat(results.max()).isGreaterThanOrEqualTo(1);
+            assertThat(statements).isNotNull();
+            assertThat(statements.max()).isPositive();
+
+        }
+
+        @Test
+        void validateExportMetricsCountStreamedStatements() throws InterruptedException {
+
+            // Arrange
+            var request = GenerateData.gerenRestaurantRequest();
+
+            createRestaurantPost(request);
+
+            // Act
+            ResponseEntity<String> response = restTemplate
+                    .getForEntity("/restaurants/export?name={name}", String.class, request.name());
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+            // the export runs on the async executor and is recorded once the async request completes
+            DistributionSummary statements = null;
+
+            for (int attempt = 0; attempt < 50 && statements == null; attempt++) {
+                statements = meterRegistry.find(StatementMetricsFilter.REQUEST_STATEMENTS)
+                        .tags("method", "GET", "uri", "/restaurants/export")
+                        .summary();
+                if (statements == null) Thread.sleep(100);
+            }
+
+            assertThat(statements).isNotNull();
+            assertThat(statements.max()).isPositive();
+
         }
 
     }
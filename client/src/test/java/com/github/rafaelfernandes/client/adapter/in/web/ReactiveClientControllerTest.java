@@ -0,0 +1,330 @@
+package com.github.rafaelfernandes.client.adapter.in.web;
+
+import com.github.rafaelfernandes.client.adapter.in.web.request.ClientRequest;
+import com.github.rafaelfernandes.client.adapter.in.web.request.OpeningHourRequest;
+import com.github.rafaelfernandes.client.adapter.out.persistence.RestaurantRepository;
+import com.github.rafaelfernandes.common.metrics.StatementMetricsFilter;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import util.GenerateData;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ReactiveClientControllerTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Clock clock;
+
+    @BeforeEach
+    void setup(){
+        restTemplate.getRestTemplate().setInterceptors(
+                Collections.singletonList((request, body, execution) -> {
+                    request.getHeaders()
+                            .add("Content-Type", MediaType.APPLICATION_JSON_VALUE);
+                    return execution.execute(request, body);
+                }));
+    }
+
+    @AfterEach
+    void tearDown(){
+        restaurantRepository.deleteAll();
+    }
+
+    @Nested
+    class FindById {
+
+        @Test
+        void validateCommandError() {
+
+            ResponseEntity<String> response = restTemplate
+                    .getForEntity("/reactive/restaurants/uuid-invalid", String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+            DocumentContext documentContext = JsonPath.parse(response.getBody());
+
+            String error = documentContext.read("$.errors");
+
+            assertThat(error).isEqualTo("id: O campo deve ser do tipo UUID");
+
+        }
+
+        @Test
+        void validateNotFound() {
+
+            ResponseEntity<String> response = restTemplate
+                    .getForEntity("/reactive/restaurants/e903732e-9d20-4023-a71a-5c761253fc1c", String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+
+            DocumentContext documentContext = JsonPath.parse(response.getBody());
+
+            String error = documentContext.read("$.errors");
+
+            assertThat(error).isEqualTo("Restaurante(s) não existe!");
+
+        }
+
+        @Test
+        void validateFound() {
+
+            // Arrange
+            var request = GenerateData.gerenRestaurantRequest();
+
+            var location = createRestaurantPost(request).getHeaders().getLocation();
+
+            ResponseEntity<String> blocking = restTemplate.getForEntity(location, String.class);
+
+            // Act
+            ResponseEntity<String> response = restTemplate
+                    .getForEntity("/reactive" + location.getPath(), String.class);
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+            DocumentContext documentContext = JsonPath.parse(response.getBody());
+            DocumentContext expected = JsonPath.parse(blocking.getBody());
+
+            assertThat((String) documentContext.read("$.id")).isEqualTo(expected.read("$.id"));
+            assertThat((String) documentContext.read("$.name")).isEqualTo(request.name());
+            assertThat((String) documentContext.read("$.address.street")).isEqualTo(request.address().street());
+            assertThat((Integer) documentContext.read("$.address.number")).isEqualTo(request.address().number());
+            assertThat((String) documentContext.read("$.address.city")).isEqualTo(request.address().city());
+            assertThat((Integer) documentContext.read("$.tables")).isEqualTo(request.tables());
+            assertThat((List<Object>) documentContext.read("$.openingHours"))
+                    .containsExactlyInAnyOrderElementsOf(expected.read("$.openingHours"));
+            assertThat((List<Object>) documentContext.read("$.cuisines"))
+                    .containsExactlyInAnyOrderElementsOf(expected.read("$.cuisines"));
+
+        }
+
+    }
+
+    @Nested
+    class Metrics {
+
+        @Test
+        void validateStatementsCountForTheRequest() throws InterruptedException {
+
+            // Arrange
+            var request = GenerateData.gerenRestaurantRequest();
+
+            var location = createRestaurantPost(request).getHeaders().getLocation();
+
+            // Act
+            ResponseEntity<String> response = restTemplate
+                    .getForEntity("/reactive" + location.getPath(), String.class);
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+            // recorded once the async request completes, which can trail the response
+            DistributionSummary statements = null;
+
+            for (int attempt = 0; attempt < 50 && statements == null; attempt++) {
+                statements = meterRegistry.find(StatementMetricsFilter.REQUEST_STATEMENTS)
+                        .tags("method", "GET", "uri", "/reactive/restaurants/{restaurantId}")
+                        .summary();
+                if (statements == null) Thread.sleep(100);
+            }
+
+            assertThat(statements).isNotNull();
+            assertThat(statements.max()).isEqualTo(1);
+
+        }
+
+    }
+
+    @Nested
+    class GetAllBy {
+
+        @Test
+        void validateEmptyParameters() {
+
+            ResponseEntity<String> response = restTemplate
+                    .getForEntity("/reactive/restaurants/?name=&location=&cuisines=", String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+            DocumentContext documentContext = JsonPath.parse(response.getBody());
+
+            String error = documentContext.read("$.errors");
+
+            assertThat(error).isEqualTo("Pelo menos um dos parâmetros deve ser fornecido.");
+
+        }
+
+        @Test
+        void validateNotFound() {
+
+            ResponseEntity<String> response = restTemplate
+                    .getForEntity("/reactive/restaurants/?name={name}", String.class, "inexistente");
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+
+        }
+
+        @Test
+        void validateSuccessName() {
+
+            // Arrange
+            var request = GenerateData.gerenRestaurantRequest();
+
+            createRestaurantPost(request);
+
+            // Act
+            ResponseEntity<String> response = restTemplate
+                    .getForEntity("/reactive/restaurants/?name={name}", String.class, request.name());
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+            DocumentContext documentContext = JsonPath.parse(response.getBody());
+
+            String name = documentContext.read("$.[0].name");
+
+            assertThat(name).isEqualTo(request.name());
+
+        }
+
+        @Test
+        void validateSuccessNameOpenAt() {
+
+            // Arrange
+            var request = GenerateData.gerenRestaurantRequest();
+
+            createRestaurantPost(request);
+
+            // Act
+            ResponseEntity<String> open = restTemplate
+                    .getForEntity("/reactive/restaurants/?name={name}&openAt=2024-01-01T10:00:00", String.class, request.name());
+
+            ResponseEntity<String> closed = restTemplate
+                    .getForEntity("/reactive/restaurants/?name={name}&openAt=2024-01-01T20:00:00", String.class, request.name());
+
+            // Assert
+            assertThat(open.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat((String) JsonPath.parse(open.getBody()).read("$.[0].name")).isEqualTo(request.name());
+            assertThat(closed.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+
+        }
+
+        @Test
+        void validateSuccessNameOpenNow() {
+
+            // Arrange
+            var today = LocalDate.now(clock).getDayOfWeek();
+
+            var generated = GenerateData.gerenRestaurantRequest();
+            var request = new ClientRequest(generated.name(), generated.address(), generated.tables(),
+                    List.of(new OpeningHourRequest(today.name(), LocalTime.MIDNIGHT, LocalTime.MAX)),
+                    generated.cuisines());
+
+            createRestaurantPost(request);
+
+            // Act
+            ResponseEntity<String> response = restTemplate
+                    .getForEntity("/reactive/restaurants/?name={name}&openNow=true", String.class, request.name());
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat((String) JsonPath.parse(response.getBody()).read("$.[0].name")).isEqualTo(request.name());
+
+        }
+
+        @Test
+        void openNowReadsTheBusinessZone() {
+
+            // Arrange
+            var noonUtc = Clock.fixed(Instant.parse("2024-01-01T12:00:00Z"), ZoneId.of("America/Sao_Paulo"));
+
+            // Act
+            var openAt = ClientController.toOpenAt(null, true, noonUtc);
+
+            // Assert
+            assertThat(openAt).isEqualTo(LocalDateTime.of(2024, 1, 1, 9, 0));
+            assertThat(ClientController.toOpenAt(null, false, noonUtc)).isNull();
+
+        }
+
+        @Test
+        void validateSuccessCuisinesWithCursor() {
+
+            // Arrange
+            var first = GenerateData.gerenRestaurantRequest();
+            var second = GenerateData.gerenRestaurantRequest();
+
+            createRestaurantPost(first);
+            createRestaurantPost(second);
+
+            var cuisine = first.cuisines().get(0).cuisine();
+            var sharedBySecond = second.cuisines().stream().anyMatch(item -> item.cuisine().equals(cuisine));
+
+            // Act
+            ResponseEntity<String> page = restTemplate
+                    .getForEntity("/reactive/restaurants/?cuisines={cuisine}&size=1", String.class, cuisine);
+
+            // Assert
+            assertThat(page.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat((List<Object>) JsonPath.parse(page.getBody()).read("$")).hasSize(1);
+
+            var cursor = page.getHeaders().getFirst(ClientController.NEXT_CURSOR_HEADER);
+
+            if (!sharedBySecond) {
+                assertThat(cursor).isNull();
+                return;
+            }
+
+            ResponseEntity<String> next = restTemplate
+                    .getForEntity("/reactive/restaurants/?cuisines={cuisine}&size=1&cursor={cursor}", String.class, cuisine, cursor);
+
+            assertThat(next.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat((String) JsonPath.parse(next.getBody()).read("$.[0].name"))
+                    .isNotEqualTo(JsonPath.parse(page.getBody()).read("$.[0].name"));
+
+        }
+
+    }
+
+    private ResponseEntity<String> createRestaurantPost(ClientRequest request) {
+        return restTemplate
+                .postForEntity(
+                        "/restaurants/",
+                        request,
+                        String.class
+                );
+
+    }
+
+}
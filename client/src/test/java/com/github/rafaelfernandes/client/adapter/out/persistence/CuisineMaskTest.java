@@ -0,0 +1,39 @@
+package com.github.rafaelfernandes.client.adapter.out.persistence;
+
+import com.github.rafaelfernandes.common.enums.Cuisine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CuisineMaskTest {
+
+    Locale defaultLocale = Locale.getDefault();
+
+    @AfterEach
+    void tearDown(){
+        Locale.setDefault(defaultLocale);
+    }
+
+    @Test
+    void nameIgnoresTheDefaultLocale(){
+
+        // Arrange
+
+        // Turkish upper-cases "i" to a dotted "İ"
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+
+        // Act
+
+        var mask = CuisineMask.of("italian");
+
+        // Assert
+
+        assertThat(mask).isEqualTo(CuisineMask.of(List.of(Cuisine.ITALIAN)));
+
+    }
+
+}
@@ -0,0 +1,255 @@
+package com.github.rafaelfernandes.client.adapter.out.persistence;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+class RestaurantGeoIndexTest {
+
+    RestaurantGeoIndex index = new RestaurantGeoIndex();
+
+    UUID paulista = UUID.randomUUID();
+    UUID pinheiros = UUID.randomUUID();
+    UUID santos = UUID.randomUUID();
+
+    @Nested
+    class Nearest {
+
+        @Test
+        void closestFirstWithinRadius(){
+
+            // Arrange
+
+            index.put(santos, -23.9608, -46.3336);
+            index.put(pinheiros, -23.5670, -46.6920);
+            index.put(paulista, -23.5614, -46.6559);
+
+            // Act
+
+            var nearest = index.nearest(-23.5600, -46.6500, 10, 5);
+            var wide = index.nearest(-23.5600, -46.6500, 60, 5);
+
+            // Assert
+
+            assertThat(nearest).containsExactly(paulista, pinheiros);
+            assertThat(wide).containsExactly(paulista, pinheiros, santos);
+
+        }
+
+        @Test
+        void keepsOnlyTheLimit(){
+
+            index.put(santos, -23.9608, -46.3336);
+            index.put(pinheiros, -23.5670, -46.6920);
+            index.put(paulista, -23.5614, -46.6559);
+
+            assertThat(index.nearest(-23.9000, -46.3000, 50, 1)).containsExactly(santos);
+
+        }
+
+        @Test
+        void acrossTheAntimeridian(){
+
+            index.put(paulista, 0.0, 179.99);
+
+            assertThat(index.nearest(0.0, -179.99, 5, 5)).containsExactly(paulista);
+
+        }
+
+        @Test
+        void nearThePoleWithinAFewCells(){
+
+            index.put(paulista, 85.1, 1.0);
+            index.put(santos, 85.0, 10.0);
+
+            // warmed up first, so the bound is on the searches and not on loading and compiling them
+            index.nearest(85.0, 0.0, 50, 5);
+
+            var nearest = assertTimeout(Duration.ofSeconds(1), () -> {
+                List<UUID> found = List.of();
+                for (int i = 0; i < 100; i++) found = index.nearest(85.0, 0.0, 50, 5);
+                return found;
+            });
+
+            assertThat(nearest).containsExactly(paulista);
+
+        }
+
+        @Test
+        void acrossThePole(){
+
+            index.put(paulista, 89.95, 180.0);
+            index.put(pinheiros, 89.8, 90.0);
+            index.put(santos, 89.0, 0.0);
+
+            // warmed up first, so the bound is on the searches and not on loading and compiling them
+            index.nearest(89.9, 0.0, 50, 5);
+
+            var nearest = assertTimeout(Duration.ofSeconds(1), () -> {
+                List<UUID> found = List.of();
+                for (int i = 0; i < 100; i++) found = index.nearest(89.9, 0.0, 50, 5);
+                return found;
+            });
+
+            assertThat(nearest).containsExactly(paulista, pinheiros);
+
+        }
+
+        @Test
+        void movedPointLeavesItsOldCell(){
+
+            index.put(paulista, -23.5614, -46.6559);
+            index.put(paulista, -23.9608, -46.3336);
+
+            assertThat(index.nearest(-23.5614, -46.6559, 10, 5)).isEmpty();
+            assertThat(index.nearest(-23.9608, -46.3336, 10, 5)).containsExactly(paulista);
+
+        }
+
+        @Test
+        void concurrentMovesLeaveNothingBehind() throws InterruptedException {
+
+            // Arrange
+
+            var threads = new ArrayList<Thread>();
+
+            for (int t = 0; t < 4; t++) {
+                var offset = t * 0.01;
+                // every move goes to a point of its own, so a copy left behind would never be cleared by a later one
+                threads.add(new Thread(() -> {
+                    for (int i = 0; i < 20_000; i++) index.put(paulista, -23.5 - offset - i * 1e-6, -46.6 - i * 1e-6);
+                }));
+            }
+
+            threads.forEach(Thread::start);
+
+            for (Thread thread : threads) thread.join();
+
+            // Act
+
+            var found = index.nearest(-23.52, -46.61, 50, 5);
+
+            index.remove(paulista);
+
+            // Assert
+
+            assertThat(found).containsExactly(paulista);
+            assertThat(index.nearest(-23.52, -46.61, 50, 5)).isEmpty();
+
+        }
+
+    }
+
+    @Nested
+    class Load {
+
+        @Test
+        void loadsOnlyOnce(){
+
+            index.loadIfEmpty(() -> Stream.of(new RestaurantGeoIndex.Point(paulista, -23.5614, -46.6559)));
+            index.loadIfEmpty(() -> Stream.of(new RestaurantGeoIndex.Point(santos, -23.5614, -46.6559)));
+
+            assertThat(index.nearest(-23.5614, -46.6559, 1, 5)).containsExactly(paulista);
+
+        }
+
+        @Test
+        void removeLeavesTheCell(){
+
+            index.put(paulista, -23.5614, -46.6559);
+
+            index.remove(paulista);
+            index.remove(santos);
+
+            assertThat(index.nearest(-23.5614, -46.6559, 10, 5)).isEmpty();
+
+        }
+
+        @Test
+        void catchUpAppliesTheChangedRows(){
+
+            // Arrange
+
+            index.loadIfEmpty(() -> Stream.of(new RestaurantGeoIndex.Point(paulista, -23.5614, -46.6559)));
+
+            // Act
+
+            index.catchUp(since -> Stream.of(
+                    new RestaurantGeoIndex.Change(paulista, null, null),
+                    new RestaurantGeoIndex.Change(santos, -23.9608, -46.3336)));
+
+            // Assert
+
+            assertThat(index.nearest(-23.5614, -46.6559, 10, 5)).isEmpty();
+            assertThat(index.nearest(-23.9608, -46.3336, 10, 5)).containsExactly(santos);
+
+        }
+
+        @Test
+        void catchUpOverlapsThePreviousOne(){
+
+            // Arrange
+
+            var asked = new ArrayList<LocalDateTime>();
+
+            var beforeLoad = LocalDateTime.now();
+            index.loadIfEmpty(Stream::empty);
+
+            var beforeFirst = LocalDateTime.now();
+
+            // Act
+
+            index.catchUp(since -> {
+                asked.add(since);
+                return Stream.empty();
+            });
+
+            var afterFirst = LocalDateTime.now();
+
+            index.catchUp(since -> {
+                asked.add(since);
+                return Stream.empty();
+            });
+
+            // Assert
+
+            assertThat(asked.get(0)).isBetween(
+                    beforeLoad.minus(RestaurantGeoIndex.CATCH_UP_OVERLAP), beforeFirst.minus(RestaurantGeoIndex.CATCH_UP_OVERLAP));
+            assertThat(asked.get(1)).isBetween(
+                    beforeFirst.minus(RestaurantGeoIndex.CATCH_UP_OVERLAP), afterFirst.minus(RestaurantGeoIndex.CATCH_UP_OVERLAP));
+
+        }
+
+        @Test
+        void catchUpWaitsForTheLoad(){
+
+            index.catchUp(since -> Stream.of(new RestaurantGeoIndex.Change(santos, -23.9608, -46.3336)));
+
+            index.loadIfEmpty(() -> Stream.of(new RestaurantGeoIndex.Point(paulista, -23.5614, -46.6559)));
+
+            assertThat(index.nearest(-23.9608, -46.3336, 10, 5)).isEmpty();
+            assertThat(index.nearest(-23.5614, -46.6559, 10, 5)).containsExactly(paulista);
+
+        }
+
+        @Test
+        void distanceInKm(){
+
+            var distance = RestaurantGeoIndex.distanceInKm(-23.5614, -46.6559, -23.9608, -46.3336);
+
+            assertThat(distance).isBetween(54.0, 56.0);
+
+        }
+
+    }
+
+}
@@ -1,7 +1,15 @@
 package com.github.rafaelfernandes.client.adapter.out.persistence;
 
 import com.github.rafaelfernandes.common.enums.Cuisine;
+import com.github.rafaelfernandes.common.enums.CuisineMatch;
+import com.github.rafaelfernandes.common.enums.OrderBy;
 import com.github.rafaelfernandes.client.application.domain.model.Client;
+import com.github.rafaelfernandes.client.exception.RestaurantDuplicateException;
+import com.github.rafaelfernandes.client.application.domain.model.NearbySearch;
+import com.github.rafaelfernandes.client.application.domain.model.Pagination;
+import com.github.rafaelfernandes.client.application.domain.model.SearchCriteria;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import util.GenerateData;
 import org.junit.jupiter.api.AfterEach;
@@ -9,16 +17,24 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
-@Import({RestaurantPersistenceAdapter.class, RestaurantMapper.class})
+@Import({RestaurantPersistenceAdapter.class, RestaurantMapper.class, RestaurantGeoIndex.class})
 class RestaurantPersistenceAdapterTest {
 
     @Autowired
@@ -27,9 +43,18 @@ class RestaurantPersistenceAdapterTest {
     @Autowired
     private RestaurantRepository restaurantRepository;
 
+    @Autowired
+    private RestaurantViewRepository restaurantViewRepository;
+
     @Autowired
     private RestaurantMapper restaurantMapper;
 
+    @Autowired
+    private RestaurantGeoIndex restaurantGeoIndex;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     @AfterEach
     void tearDown(){
         restaurantRepository.deleteAll();
@@ -83,7 +108,7 @@ class RestaurantPersistenceAdapterTest {
 
             assertThat(restaurant.getRestaurantId()).isEqualTo(restaurantSaved.getRestaurantId());
 
-            var restaurantIdUUID = UUID.fromString(restaurantSaved.getRestaurantId().id());
+            var restaurantIdUUID = restaurantSaved.getRestaurantId().id();
 
             var restaurantFound = restaurantRepository.findById(restaurantIdUUID);
 
@@ -92,6 +117,113 @@ class RestaurantPersistenceAdapterTest {
 
         }
 
+        @Test
+        void validateDuplicateName(){
+
+            var restaurant = restaurantPersistenceAdapter.save(GenerateData.createRestaurant());
+
+            var sameName = Client.of(
+                    UUID.randomUUID().toString(),
+                    restaurant.getName(),
+                    GenerateData.generateAddress(),
+                    LocalDateTime.now(),
+                    GenerateData.createDefaultOpeningHours(),
+                    10,
+                    GenerateData.generateCuisines()
+            );
+
+            assertThatThrownBy(() -> restaurantPersistenceAdapter.save(sameName))
+                    .isInstanceOf(RestaurantDuplicateException.class)
+                    .hasMessage("Nome já cadastrado!");
+
+            // the failed insert stays in the persistence context until the test transaction rolls back
+            entityManager.clear();
+
+        }
+
+    }
+
+    // saveAll commits chunk by chunk, so these tests run outside the rolled-back test transaction and tearDown
+    // deletes what they committed
+    @Nested
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    class SaveAll {
+
+        @Test
+        void validateSuccessSaveAll(){
+
+            var restaurants = Stream.generate(() -> Client.of(
+                            UUID.randomUUID().toString(),
+                            "Restaurante " + UUID.randomUUID(),
+                            GenerateData.generateAddress(),
+                            LocalDateTime.now(),
+                            GenerateData.createDefaultOpeningHours(),
+                            10,
+                            GenerateData.generateCuisines()))
+                    .limit(3)
+                    .toList();
+
+            restaurantPersistenceAdapter.saveAll(restaurants);
+
+            var names = restaurants.stream().map(Client::getName).toList();
+
+            assertThat(restaurantRepository.count()).isEqualTo(3);
+            assertThat(restaurantPersistenceAdapter.findExistingNames(names)).containsExactlyInAnyOrderElementsOf(names);
+
+            var restaurantGet = restaurantPersistenceAdapter.findById(restaurants.get(0).getRestaurantId());
+
+            assertThat(restaurantGet).isPresent();
+            assertThat(restaurantGet.get().getOpeningHours()).containsExactlyInAnyOrderElementsOf(restaurants.get(0).getOpeningHours());
+
+        }
+
+        @Test
+        void saveAllRefusesOnlyTheNameTakenConcurrently(){
+
+            // Arrange
+
+            var restaurants = Stream.generate(() -> Client.of(
+                            UUID.randomUUID().toString(),
+                            "Restaurante " + UUID.randomUUID(),
+                            GenerateData.generateAddress(),
+                            LocalDateTime.now(),
+                            GenerateData.createDefaultOpeningHours(),
+                            10,
+                            GenerateData.generateCuisines()))
+                    .limit(3)
+                    .toList();
+
+            var clashing = restaurants.get(1);
+
+            restaurantPersistenceAdapter.save(Client.of(
+                    UUID.randomUUID().toString(), clashing.getName(), clashing.getAddress(), clashing.getRegister(),
+                    clashing.getOpeningHours(), clashing.getTables(), clashing.getCuisines()));
+
+            // Act
+
+            var refused = restaurantPersistenceAdapter.saveAll(restaurants);
+
+            // Assert
+
+            assertThat(refused).containsExactly(clashing.getRestaurantId());
+            assertThat(restaurantRepository.count()).isEqualTo(3);
+            assertThat(restaurantPersistenceAdapter.findById(restaurants.get(0).getRestaurantId())).isPresent();
+            assertThat(restaurantPersistenceAdapter.findById(clashing.getRestaurantId())).isEmpty();
+            assertThat(restaurantPersistenceAdapter.findById(restaurants.get(2).getRestaurantId())).isPresent();
+
+        }
+
+        @Test
+        void findExistingNamesOnlyReturnsStored(){
+
+            var restaurant = restaurantPersistenceAdapter.save(GenerateData.createRestaurant());
+
+            var existing = restaurantPersistenceAdapter.findExistingNames(List.of(restaurant.getName(), "Restaurante " + UUID.randomUUID()));
+
+            assertThat(existing).containsExactly(restaurant.getName());
+
+        }
+
     }
 
     @Nested
@@ -126,6 +258,203 @@ class RestaurantPersistenceAdapterTest {
 
 
 
+    }
+
+    @Nested
+    class ReadModel {
+
+        @Test
+        void findByIdReadsOneRow(){
+
+            // Arrange
+
+            var restaurant = GenerateData.createRestaurant();
+            restaurantPersistenceAdapter.save(restaurant);
+
+            entityManager.flush();
+            entityManager.clear();
+
+            var statistics = entityManager.getEntityManager()
+                    .getEntityManagerFactory()
+                    .unwrap(SessionFactory.class)
+                    .getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+
+            // Act
+
+            var restaurantFound = restaurantPersistenceAdapter.findById(restaurant.getRestaurantId());
+
+            var statements = statistics.getPrepareStatementCount();
+            statistics.setStatisticsEnabled(false);
+
+            // Assert
+
+            assertThat(statements).isEqualTo(1);
+            assertThat(restaurantFound).isPresent();
+            assertThat(restaurantFound.get().getAddress()).isEqualTo(restaurant.getAddress());
+            assertThat(restaurantFound.get().getOpeningHours()).isEqualTo(restaurant.getOpeningHours());
+            assertThat(restaurantFound.get().getCuisines()).isEqualTo(restaurant.getCuisines());
+            assertThat(restaurantFound.get().getVersion()).isZero();
+            assertThat(restaurantFound.get().getLastModified()).isNotNull();
+
+        }
+
+        @Test
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        void saveAllWritesOneViewPerRestaurant(){
+
+            // Arrange
+
+            var restaurants = Stream.generate(() -> Client.of(
+                            UUID.randomUUID().toString(),
+                            "Restaurante " + UUID.randomUUID(),
+                            GenerateData.generateAddress(),
+                            LocalDateTime.now(),
+                            GenerateData.createDefaultOpeningHours(),
+                            10,
+                            GenerateData.generateCuisines()))
+                    .limit(3)
+                    .toList();
+
+            // Act
+
+            restaurantPersistenceAdapter.saveAll(restaurants);
+
+            // Assert
+
+            assertThat(restaurantViewRepository.count()).isEqualTo(3);
+            assertThat(restaurantPersistenceAdapter.findById(restaurants.get(1).getRestaurantId()))
+                    .get()
+                    .extracting(Client::getName)
+                    .isEqualTo(restaurants.get(1).getName());
+
+        }
+
+        @Test
+        void viewIsDeletedWithItsRestaurant(){
+
+            // Arrange
+
+            restaurantPersistenceAdapter.save(GenerateData.createRestaurant());
+
+            entityManager.flush();
+            entityManager.clear();
+
+            // Act
+
+            restaurantRepository.deleteAll();
+            entityManager.flush();
+            entityManager.clear();
+
+            // Assert
+
+            assertThat(restaurantViewRepository.count()).isZero();
+
+        }
+
+    }
+
+    @Nested
+    class FindNearby {
+
+        double latitude = ThreadLocalRandom.current().nextDouble(-60, 60);
+        double longitude = ThreadLocalRandom.current().nextDouble(-170, 170);
+
+        @Test
+        void dropsHitsTheViewNoLongerBacks(){
+
+            // Arrange
+
+            var kept = saveAt(latitude, longitude);
+            var withoutCoordinates = saveAt(null, null);
+            var movedAway = saveAt(latitude + 1, longitude);
+
+            // as indexed before another instance changed the last two
+            restaurantGeoIndex.put(kept.getRestaurantId().id(), latitude, longitude);
+            restaurantGeoIndex.put(withoutCoordinates.getRestaurantId().id(), latitude, longitude);
+            restaurantGeoIndex.put(movedAway.getRestaurantId().id(), latitude, longitude);
+
+            // Act
+
+            var nearby = restaurantPersistenceAdapter.findNearby(new NearbySearch(latitude, longitude, 10.0, 10));
+
+            // Assert
+
+            assertThat(nearby).extracting(Client::getName).containsExactly(kept.getName());
+
+        }
+
+        @Test
+        void catchUpPicksUpRowsWrittenElsewhere(){
+
+            // Arrange
+
+            restaurantPersistenceAdapter.findNearby(new NearbySearch(latitude, longitude, 10.0, 10));
+
+            // written without passing through this instance's index
+            var restaurant = saveAt(latitude, longitude);
+
+            var beforeCatchUp = restaurantPersistenceAdapter.findNearby(new NearbySearch(latitude, longitude, 10.0, 10));
+
+            // Act
+
+            restaurantPersistenceAdapter.catchUpNearby();
+
+            // Assert
+
+            assertThat(beforeCatchUp).isEmpty();
+            assertThat(restaurantPersistenceAdapter.findNearby(new NearbySearch(latitude, longitude, 10.0, 10)))
+                    .extracting(Client::getName)
+                    .containsExactly(restaurant.getName());
+
+        }
+
+        private Client saveAt(Double latitude, Double longitude){
+
+            var restaurant = GenerateData.createRestaurant();
+            restaurantPersistenceAdapter.save(restaurant);
+
+            entityManager.flush();
+
+            var view = restaurantViewRepository.findById(restaurant.getRestaurantId().id()).orElseThrow();
+            view.setLatitude(latitude);
+            view.setLongitude(longitude);
+
+            entityManager.flush();
+            entityManager.clear();
+
+            return restaurant;
+        }
+
+    }
+
+    @Nested
+    class FindVersionById {
+
+        @Test
+        void findSuccess(){
+
+            var restaurant = restaurantPersistenceAdapter.save(GenerateData.createRestaurant());
+
+            var version = restaurantPersistenceAdapter.findVersionById(restaurant.getRestaurantId());
+
+            assertThat(version).isPresent();
+            assertThat(version.get().restaurantId()).isEqualTo(restaurant.getRestaurantId());
+            assertThat(version.get().version()).isZero();
+            assertThat(version.get().lastModified()).isNotNull();
+
+        }
+
+        @Test
+        void notFound(){
+
+            var version = restaurantPersistenceAdapter.findVersionById(GenerateData.createRestaurant().getRestaurantId());
+
+            assertThat(version).isEmpty();
+
+        }
+
     }
 
     @Nested
@@ -142,7 +471,9 @@ class RestaurantPersistenceAdapterTest {
         @Test
         void findByAllByNameSucess(){
 
-            var restaurants = restaurantPersistenceAdapter.findAllBy(restaurant.getName(), "", null);
+            var restaurants = restaurantPersistenceAdapter.findAllBy(
+                    new SearchCriteria(restaurant.getName(), "", null, null), Pagination.first()
+            ).clients();
 
             assertThat(restaurants)
                     .hasSize(1)
@@ -157,7 +488,9 @@ class RestaurantPersistenceAdapterTest {
 
             var location = restaurant.getAddress().getStreet();
 
-            var restaurants = restaurantPersistenceAdapter.findAllBy(null, location, null);
+            var restaurants = restaurantPersistenceAdapter.findAllBy(
+                    new SearchCriteria(null, location, null, null), Pagination.first()
+            ).clients();
 
             assertThat(restaurants)
                     .hasSize(1)
@@ -167,6 +500,47 @@ class RestaurantPersistenceAdapterTest {
 
         }
 
+        @Test
+        void findByAllIgnoringAccentsAndCase(){
+
+            // Arrange
+
+            var accented = new Client(
+                    "Cantina São  João " + UUID.randomUUID(),
+                    new Client.Address("Rua do Açaí Grande", 10, "Loja 1", "Centro", "São Paulo", "SP"),
+                    GenerateData.createDefaultOpeningHours(),
+                    GenerateData.generateCuisines(),
+                    10);
+
+            restaurantPersistenceAdapter.create(accented);
+
+            // Act
+
+            var byName = restaurantPersistenceAdapter.findAllBy(
+                    new SearchCriteria("CANTINA sao joão", null, null, null), Pagination.first()
+            ).clients();
+
+            var byLocation = restaurantPersistenceAdapter.findAllBy(
+                    new SearchCriteria(null, "rua do acai  SAO paulo", null, null), Pagination.first()
+            ).clients();
+
+            var stored = restaurantRepository.findById(accented.getRestaurantId().id());
+
+            // Assert
+
+            assertThat(byName)
+                    .extracting(Client::getName)
+                    .containsExactly(accented.getName());
+
+            assertThat(byLocation)
+                    .extracting(Client::getName)
+                    .containsExactly(accented.getName());
+
+            assertThat(stored).isPresent();
+            assertThat(stored.get().getFullSearch()).startsWith("cantina sao joao ").contains("_rua do acai grande_", "_sao paulo_sp_");
+
+        }
+
         @Test
         void findByAllByCuisinesSucess(){
 
@@ -174,7 +548,9 @@ class RestaurantPersistenceAdapterTest {
                 add(Cuisine.valueOf(restaurant.getCuisines().get(0).getCuisine()));
             }};
 
-            var restaurants = restaurantPersistenceAdapter.findAllBy(null, null, cuisines);
+            var restaurants = restaurantPersistenceAdapter.findAllBy(
+                    new SearchCriteria(null, null, cuisines, null), Pagination.first()
+            ).clients();
 
             assertThat(restaurants)
                     .hasSize(1)
@@ -184,17 +560,411 @@ class RestaurantPersistenceAdapterTest {
 
         }
 
+        @Test
+        void findByAllByAnyCuisineSucess(){
+
+            var cuisines = List.of(Cuisine.JAPANESE, Cuisine.valueOf(restaurant.getCuisines().get(0).getCuisine()));
+
+            var restaurants = restaurantPersistenceAdapter.findAllBy(
+                    new SearchCriteria(null, null, cuisines, CuisineMatch.ANY), Pagination.first()
+            ).clients();
+
+            assertThat(restaurants)
+                    .hasSize(1)
+                    .extracting(Client::getName)
+                    .contains(restaurant.getName());
+
+        }
+
+        @Test
+        void findByAllByAllCuisinesReturnEmpty(){
+
+            var cuisines = List.of(Cuisine.JAPANESE, Cuisine.valueOf(restaurant.getCuisines().get(0).getCuisine()));
+
+            var restaurants = restaurantPersistenceAdapter.findAllBy(
+                    new SearchCriteria(null, null, cuisines, CuisineMatch.ALL), Pagination.first()
+            ).clients();
+
+            assertThat(restaurants).isEmpty();
+
+        }
+
+        @Test
+        void findByAllByPartOfNameIgnoringCase(){
+
+            var word = restaurant.getName().split(" ")[0].toLowerCase();
+
+            var restaurants = restaurantPersistenceAdapter.findAllBy(
+                    new SearchCriteria(word, null, null, null), Pagination.first()
+            ).clients();
+
+            assertThat(restaurants)
+                    .extracting(Client::getName)
+                    .contains(restaurant.getName());
+
+        }
+
+        @Test
+        void findByAllByNameAndLocationSucess(){
+
+            var restaurants = restaurantPersistenceAdapter.findAllBy(
+                    new SearchCriteria(restaurant.getName(), restaurant.getAddress().getCity(), null, null), Pagination.first()
+            ).clients();
+
+            assertThat(restaurants)
+                    .hasSize(1)
+                    .extracting(Client::getName)
+                    .contains(restaurant.getName());
+
+        }
+
+        @Test
+        void findByAllByNameInLocationReturnEmpty(){
+
+            var restaurants = restaurantPersistenceAdapter.findAllBy(
+                    new SearchCriteria(null, restaurant.getName(), null, null), Pagination.first()
+            ).clients();
+
+            assertThat(restaurants).isEmpty();
+
+        }
+
         @Test
         void findAllReturnEmpty(){
 
-            var restaurants = restaurantPersistenceAdapter.findAllBy("SAO_TOME", null, null);
+            var restaurants = restaurantPersistenceAdapter.findAllBy(
+                    new SearchCriteria("SAO_TOME", null, null, null), Pagination.first()
+            ).clients();
+
+            assertThat(restaurants).isEmpty();
+
+        }
+
+    }
+
+    @Nested
+    class FindAllByPage {
+
+        SearchCriteria criteria = new SearchCriteria(null, null, List.of(Cuisine.BRAZILIAN), CuisineMatch.ALL);
+
+        @BeforeEach
+        void setUp(){
+            for (String name : List.of("Restaurante A", "Restaurante B", "Restaurante C")) {
+                restaurantPersistenceAdapter.save(Client.of(
+                        UUID.randomUUID().toString(),
+                        name,
+                        GenerateData.generateAddress(),
+                        LocalDateTime.now(),
+                        GenerateData.createDefaultOpeningHours(),
+                        10,
+                        GenerateData.generateCuisines()
+                ));
+            }
+        }
+
+        @Test
+        void walkPagesAscending(){
+
+            var first = restaurantPersistenceAdapter.findAllBy(criteria, new Pagination(null, 2, OrderBy.ASC));
+
+            assertThat(first.clients())
+                    .extracting(Client::getName)
+                    .containsExactly("Restaurante A", "Restaurante B");
+            assertThat(first.hasNext()).isTrue();
+
+            var second = restaurantPersistenceAdapter.findAllBy(criteria, new Pagination(first.nextCursor(), 2, OrderBy.ASC));
+
+            assertThat(second.clients())
+                    .extracting(Client::getName)
+                    .containsExactly("Restaurante C");
+            assertThat(second.hasNext()).isFalse();
+
+        }
+
+        @Test
+        void walkPagesDescending(){
+
+            var first = restaurantPersistenceAdapter.findAllBy(criteria, new Pagination(null, 2, OrderBy.DESC));
+
+            assertThat(first.clients())
+                    .extracting(Client::getName)
+                    .containsExactly("Restaurante C", "Restaurante B");
+
+            var second = restaurantPersistenceAdapter.findAllBy(criteria, new Pagination(first.nextCursor(), 2, OrderBy.DESC));
+
+            assertThat(second.clients())
+                    .extracting(Client::getName)
+                    .containsExactly("Restaurante A");
+            assertThat(second.hasNext()).isFalse();
+
+        }
+
+        @Test
+        void streamAllInNameOrder(){
+
+            var restaurants = new ArrayList<Client>();
+
+            restaurantPersistenceAdapter.streamAllBy(criteria, restaurants::add);
+
+            assertThat(restaurants)
+                    .extracting(Client::getName)
+                    .containsExactly("Restaurante A", "Restaurante B", "Restaurante C");
+            assertThat(restaurants).allSatisfy(restaurant -> {
+                assertThat(restaurant.getOpeningHours()).hasSize(7);
+                assertThat(restaurant.getCuisines()).isNotEmpty();
+            });
+
+        }
+
+        @Test
+        void invalidCursor(){
+
+            assertThatThrownBy(() -> restaurantPersistenceAdapter.findAllBy(criteria, new Pagination("%%%", 2, OrderBy.ASC)))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+        }
+
+    }
+
+    @Nested
+    class FindAllByOpenAt {
+
+        // 2024-01-01 is a Monday
+        LocalDateTime mondayMorning = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+        LocalDateTime fridayNight = LocalDateTime.of(2024, 1, 5, 22, 30);
+
+        @BeforeEach
+        void setUp(){
+
+            restaurantPersistenceAdapter.save(restaurantOpen("Restaurante Diurno", GenerateData.createDefaultOpeningHours()));
+
+            restaurantPersistenceAdapter.save(restaurantOpen("Restaurante Noturno", List.of(
+                    new Client.OpeningHour("FRIDAY", LocalTime.of(19, 0), LocalTime.MAX),
+                    new Client.OpeningHour("SATURDAY", LocalTime.of(0, 0), LocalTime.of(2, 0)))));
+        }
+
+        @Test
+        void findOnlyOpenRestaurants(){
+
+            assertThat(findOpenAt(mondayMorning))
+                    .extracting(Client::getName)
+                    .containsExactly("Restaurante Diurno");
+
+            assertThat(findOpenAt(fridayNight))
+                    .extracting(Client::getName)
+                    .containsExactly("Restaurante Noturno");
+
+            assertThat(findOpenAt(LocalDateTime.of(2024, 1, 6, 1, 59)))
+                    .extracting(Client::getName)
+                    .containsExactly("Restaurante Noturno");
+
+        }
+
+        @Test
+        void endIsExclusive(){
+
+            assertThat(findOpenAt(LocalDateTime.of(2024, 1, 1, 18, 0))).isEmpty();
+            assertThat(findOpenAt(LocalDateTime.of(2024, 1, 1, 17, 59)))
+                    .extracting(Client::getName)
+                    .containsExactly("Restaurante Diurno");
+
+        }
+
+        @Test
+        void combinesWithOtherFilters(){
+
+            var restaurants = restaurantPersistenceAdapter.findAllBy(
+                    new SearchCriteria("Noturno", null, List.of(Cuisine.BRAZILIAN), CuisineMatch.ALL, mondayMorning),
+                    Pagination.first()
+            ).clients();
 
             assertThat(restaurants).isEmpty();
 
         }
 
+        private Client restaurantOpen(String name, List<Client.OpeningHour> openingHours){
+            return Client.of(
+                    UUID.randomUUID().toString(),
+                    name,
+                    GenerateData.generateAddress(),
+                    LocalDateTime.now(),
+                    openingHours,
+                    10,
+                    GenerateData.generateCuisines()
+            );
+        }
+
+        private List<Client> findOpenAt(LocalDateTime openAt){
+            return restaurantPersistenceAdapter.findAllBy(
+                    new SearchCriteria(null, null, null, null, openAt),
+                    Pagination.first()
+            ).clients();
+        }
+
     }
 
+    @Nested
+    class FindAllByStatements {
+
+        Statistics statistics;
+
+        @BeforeEach
+        void setUp(){
+            statistics = entityManager.getEntityManager()
+                    .getEntityManagerFactory()
+                    .unwrap(SessionFactory.class)
+                    .getStatistics();
+            statistics.setStatisticsEnabled(true);
+        }
+
+        @AfterEach
+        void tearDown(){
+            statistics.setStatisticsEnabled(false);
+        }
+
+        @Test
+        void statementCountDoesNotGrowWithResultSize(){
+
+            // Arrange
+
+            saveRestaurants(1);
+
+            // Act
+
+            var statementsForOne = countStatementsSearchingByCuisine(1);
+
+            saveRestaurants(20);
+
+            var statementsForMany = countStatementsSearchingByCuisine(21);
+
+            // Assert
+
+            assertThat(statementsForOne).isLessThanOrEqualTo(2);
+            assertThat(statementsForMany).isEqualTo(statementsForOne);
+
+        }
 
+        private void saveRestaurants(int quantity){
+
+            for (int i = 0; i < quantity; i++) {
+                var restaurant = Client.of(
+                        UUID.randomUUID().toString(),
+                        "Restaurante " + UUID.randomUUID(),
+                        GenerateData.generateAddress(),
+                        LocalDateTime.now(),
+                        GenerateData.createDefaultOpeningHours(),
+                        10,
+                        GenerateData.generateCuisines()
+                );
+                restaurantPersistenceAdapter.save(restaurant);
+            }
+
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        private long countStatementsSearchingByCuisine(int expectedSize){
+
+            statistics.clear();
+
+            var restaurants = restaurantPersistenceAdapter.findAllBy(
+                    new SearchCriteria(null, null, List.of(Cuisine.BRAZILIAN), CuisineMatch.ALL),
+                    new Pagination(null, Pagination.MAX_SIZE, OrderBy.ASC)
+            ).clients();
+
+            assertThat(restaurants).hasSize(expectedSize);
+            assertThat(restaurants).allSatisfy(restaurant -> {
+                assertThat(restaurant.getOpeningHours()).hasSize(7);
+                assertThat(restaurant.getCuisines()).isNotEmpty();
+            });
+
+            var statements = statistics.getPrepareStatementCount();
+
+            entityManager.clear();
+
+            return statements;
+        }
+
+    }
+
+    @Nested
+    class IndexUsage {
+
+        @BeforeEach
+        void setUp(){
+
+            for (int i = 0; i < 20; i++) {
+                restaurantPersistenceAdapter.save(Client.of(
+                        UUID.randomUUID().toString(),
+                        "Restaurante " + UUID.randomUUID(),
+                        GenerateData.generateAddress(),
+                        LocalDateTime.now(),
+                        GenerateData.createDefaultOpeningHours(),
+                        10,
+                        GenerateData.generateCuisines()
+                ));
+            }
+
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        @Test
+        void childCollectionsAreLoadedByIndex(){
+
+            var ids = "('" + UUID.randomUUID() + "', '" + UUID.randomUUID() + "')";
+
+            assertThat(explain("SELECT * FROM cuisine WHERE restaurant_id IN " + ids)).doesNotContain("tableScan");
+            assertThat(explain("SELECT * FROM search_token WHERE restaurant_id IN " + ids)).doesNotContain("tableScan");
+
+        }
+
+        @Test
+        void addressIsJoinedByIndex(){
+
+            var plan = explain("""
+                    SELECT r.name, a.street FROM restaurant r
+                    LEFT JOIN address a ON a.id = r.address_id
+                    WHERE r.id IN ('%s', '%s')""".formatted(UUID.randomUUID(), UUID.randomUUID()));
+
+            assertThat(plan).doesNotContain("tableScan");
+
+        }
+
+        @Test
+        void searchTermsAndCursorUseIndexes(){
+
+            var terms = explain("""
+                    SELECT t.restaurant_id FROM search_token t
+                    WHERE t.term IN ('name:restaurante', 'location:sp')
+                    GROUP BY t.restaurant_id""");
+
+            var page = explain("SELECT r.id FROM restaurant r WHERE r.name > 'Restaurante' ORDER BY r.name LIMIT 21");
+
+            assertThat(terms).containsIgnoringCase("idx_search_token_term").doesNotContain("tableScan");
+            assertThat(page).doesNotContain("tableScan");
+
+        }
+
+        @Test
+        void openAtRangeScansOneDay(){
+
+            var plan = explain("""
+                    SELECT i.restaurant_id FROM opening_interval i
+                    WHERE i.start_minute BETWEEN 0 AND 600 AND i.end_minute > 600""");
+
+            assertThat(plan).containsIgnoringCase("idx_opening_interval_start").doesNotContain("tableScan");
+
+        }
+
+        private String explain(String sql){
+            return entityManager.getEntityManager()
+                    .createNativeQuery("EXPLAIN " + sql)
+                    .getSingleResult()
+                    .toString();
+        }
+
+    }
 
-}
\ No newline at end of file
+}
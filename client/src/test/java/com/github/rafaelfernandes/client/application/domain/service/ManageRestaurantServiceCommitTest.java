@@ -0,0 +1,121 @@
+package com.github.rafaelfernandes.client.application.domain.service;
+
+import com.github.rafaelfernandes.client.adapter.out.persistence.RestaurantRepository;
+import com.github.rafaelfernandes.client.application.domain.model.Client;
+import com.github.rafaelfernandes.client.application.domain.model.CreateResult;
+import com.github.rafaelfernandes.client.application.port.in.ManageRestaurantUseCase;
+import com.github.rafaelfernandes.client.application.port.out.ManageRestaurantPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import util.GenerateData;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Runs createAll against the real database without a test transaction, so what is asserted is what was committed.
+ */
+@SpringBootTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ManageRestaurantServiceCommitTest {
+
+    @Autowired
+    private ManageRestaurantUseCase useCase;
+
+    @SpyBean
+    private ManageRestaurantPort port;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @AfterEach
+    void tearDown(){
+        restaurantRepository.deleteAll();
+    }
+
+    @Nested
+    class CreateAll {
+
+        @Test
+        void keepsTheOthersWhenANameIsTakenAfterTheLookup(){
+
+            // Arrange
+
+            var restaurants = Stream.generate(ManageRestaurantServiceCommitTest::uniquelyNamed)
+                    .limit(3)
+                    .toList();
+
+            var clashing = restaurants.get(1);
+
+            // another request commits the name between the lookup and the insert
+            doAnswer(invocation -> {
+                var existing = invocation.callRealMethod();
+                port.save(Client.of(
+                        UUID.randomUUID().toString(), clashing.getName(), clashing.getAddress(), clashing.getRegister(),
+                        clashing.getOpeningHours(), clashing.getTables(), clashing.getCuisines()));
+                return existing;
+            }).when(port).findExistingNames(anyCollection());
+
+            // Act
+
+            var results = useCase.createAll(restaurants);
+
+            // Assert
+
+            assertThat(results).extracting(CreateResult::status)
+                    .containsExactly(CreateResult.Status.CREATED, CreateResult.Status.DUPLICATE, CreateResult.Status.CREATED);
+
+            assertThat(restaurantRepository.count()).isEqualTo(3);
+            assertThat(restaurantRepository.existsById(restaurants.get(0).getRestaurantId().id())).isTrue();
+            assertThat(restaurantRepository.existsById(clashing.getRestaurantId().id())).isFalse();
+            assertThat(restaurantRepository.existsById(restaurants.get(2).getRestaurantId().id())).isTrue();
+
+        }
+
+        @Test
+        void commitsEveryChunk(){
+
+            // Arrange
+
+            var restaurants = Stream.generate(ManageRestaurantServiceCommitTest::uniquelyNamed)
+                    .limit(3)
+                    .toList();
+
+            // Act
+
+            var results = useCase.createAll(restaurants);
+
+            // Assert
+
+            assertThat(results).extracting(CreateResult::status).containsOnly(CreateResult.Status.CREATED);
+            assertThat(restaurantRepository.findAllById(restaurants.stream()
+                    .map(restaurant -> restaurant.getRestaurantId().id())
+                    .toList())).hasSize(3);
+
+        }
+
+    }
+
+    private static Client uniquelyNamed(){
+        return Client.of(
+                UUID.randomUUID().toString(),
+                "Restaurante " + UUID.randomUUID(),
+                GenerateData.generateAddress(),
+                LocalDateTime.now(),
+                GenerateData.createDefaultOpeningHours(),
+                10,
+                GenerateData.generateCuisines());
+    }
+
+}
@@ -4,6 +4,10 @@ import com.github.rafaelfernandes.common.enums.Cuisine;
 import com.github.rafaelfernandes.client.exception.RestaurantDuplicateException;
 import com.github.rafaelfernandes.client.exception.RestaurantNotFoundException;
 import com.github.rafaelfernandes.client.application.domain.model.Client;
+import com.github.rafaelfernandes.client.application.domain.model.ClientPage;
+import com.github.rafaelfernandes.client.application.domain.model.CreateResult;
+import com.github.rafaelfernandes.client.application.domain.model.Pagination;
+import com.github.rafaelfernandes.client.application.domain.model.SearchCriteria;
 import com.github.rafaelfernandes.client.application.port.out.ManageRestaurantPort;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -11,11 +15,15 @@ import org.mockito.Mockito;
 import util.GenerateData;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class ManageRestaurantServiceTest {
@@ -31,8 +39,6 @@ class ManageRestaurantServiceTest {
 
             var restaurantRequest = GenerateData.createRestaurant();
 
-            when(port.existsName(any(String.class))).thenReturn(Boolean.FALSE);
-
             when(port.save(any(Client.class))).thenReturn(restaurantRequest);
 
             var saved = service.create(restaurantRequest);
@@ -40,7 +46,7 @@ class ManageRestaurantServiceTest {
             assertThat(saved).isNotNull();
             assertThat(saved.id()).isNotNull();
 
-            verify(port, times(1)).existsName(any());
+            verify(port, never()).existsName(any());
             verify(port, times(1)).save(any());
 
         }
@@ -50,7 +56,7 @@ class ManageRestaurantServiceTest {
 
             var restaurantRequest = GenerateData.createRestaurant();
 
-            when(port.existsName(any(String.class))).thenReturn(Boolean.TRUE);
+            when(port.save(any(Client.class))).thenThrow(new RestaurantDuplicateException());
 
             assertThatThrownBy(() -> {
                 service.create(restaurantRequest);
@@ -59,8 +65,66 @@ class ManageRestaurantServiceTest {
                     .hasMessage("Nome já cadastrado!")
             ;
 
-            verify(port, times(1)).existsName(any());
-            verify(port, times(0)).save(any());
+            verify(port, never()).existsName(any());
+            verify(port, times(1)).save(any());
+
+        }
+
+    }
+
+    @Nested
+    class CreateAll {
+
+        @Test
+        void validateDuplicatesInStorageAndInBatch(){
+
+            // Arrange
+
+            var stored = GenerateData.createRestaurant();
+            var fresh = GenerateData.createRestaurant();
+            var repeated = Client.of(
+                    UUID.randomUUID().toString(), fresh.getName(), fresh.getAddress(), fresh.getRegister(),
+                    fresh.getOpeningHours(), fresh.getTables(), fresh.getCuisines());
+
+            when(port.findExistingNames(anyCollection())).thenReturn(Set.of(stored.getName()));
+
+            // Act
+
+            var results = service.createAll(List.of(stored, fresh, repeated));
+
+            // Assert
+
+            assertThat(results).extracting(CreateResult::status)
+                    .containsExactly(CreateResult.Status.DUPLICATE, CreateResult.Status.CREATED, CreateResult.Status.DUPLICATE);
+            assertThat(results.get(1).restaurantId()).isEqualTo(fresh.getRestaurantId());
+            assertThat(results.get(0).error()).isEqualTo("Nome já cadastrado!");
+
+            verify(port, times(1)).findExistingNames(anyCollection());
+            verify(port, times(1)).saveAll(List.of(fresh));
+            verify(port, never()).existsName(any());
+
+        }
+
+        @Test
+        void validateNameTakenConcurrently(){
+
+            // Arrange
+
+            var first = GenerateData.createRestaurant();
+            var second = GenerateData.createRestaurant();
+
+            when(port.findExistingNames(anyCollection())).thenReturn(Set.of());
+            when(port.saveAll(List.of(first, second))).thenReturn(Set.of(second.getRestaurantId()));
+
+            // Act
+
+            var results = service.createAll(List.of(first, second));
+
+            // Assert
+
+            assertThat(results).extracting(CreateResult::status)
+                    .containsExactly(CreateResult.Status.CREATED, CreateResult.Status.DUPLICATE);
+            assertThat(results.get(0).restaurantId()).isEqualTo(first.getRestaurantId());
 
         }
 
@@ -114,6 +178,29 @@ class ManageRestaurantServiceTest {
 
         }
 
+        @Test
+        void validateVersionNotFound(){
+
+            // Arrange
+
+            var restaurantRequest = GenerateData.createRestaurant();
+
+            when(port.findVersionById(any(Client.RestaurantId.class))).thenReturn(Optional.empty());
+
+            // Act | Assert
+
+            assertThatThrownBy(() -> {
+                service.findVersionById(restaurantRequest.getRestaurantId());
+            })
+                    .isInstanceOf(RestaurantNotFoundException.class)
+                    .hasMessage("Restaurante(s) não existe!")
+            ;
+
+            verify(port, times(1)).findVersionById(any());
+            verify(port, never()).findById(any());
+
+        }
+
     }
 
     @Nested
@@ -126,7 +213,7 @@ class ManageRestaurantServiceTest {
             // Act
 
             assertThatThrownBy(() -> {
-                service.findAllBy(null, null, null);
+                service.findAllBy(new SearchCriteria(null, null, null, null), Pagination.first());
             })
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessage("Pelo menos um dos parâmetros deve ser fornecido.")
@@ -134,7 +221,7 @@ class ManageRestaurantServiceTest {
 
             // Assert
 
-            verify(port, times(0)).findAllBy(isNull(), isNull(), isNull());
+            verify(port, times(0)).findAllBy(any(SearchCriteria.class), any(Pagination.class));
 
         }
 
@@ -144,7 +231,7 @@ class ManageRestaurantServiceTest {
             // Act
 
             assertThatThrownBy(() -> {
-                service.findAllBy("", "", new ArrayList<>());
+                service.findAllBy(new SearchCriteria("", "", new ArrayList<>(), null), Pagination.first());
             })
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessage("Pelo menos um dos parâmetros deve ser fornecido.")
@@ -152,7 +239,7 @@ class ManageRestaurantServiceTest {
 
             // Assert
 
-            verify(port, times(0)).findAllBy(anyString(), anyString(), anyList());
+            verify(port, times(0)).findAllBy(any(SearchCriteria.class), any(Pagination.class));
 
         }
 
@@ -166,16 +253,18 @@ class ManageRestaurantServiceTest {
                add(restaurant);
             }};
 
-            when(port.findAllBy(anyString(), isNull(), isNull())).thenReturn(restaurants);
+            var criteria = new SearchCriteria(restaurant.getName(), null, null, null);
+
+            when(port.findAllBy(eq(criteria), any(Pagination.class))).thenReturn(new ClientPage(restaurants, null));
 
             // Act
 
-            var list = service.findAllBy(restaurant.getName(), null, null);
+            var list = service.findAllBy(criteria, Pagination.first());
 
             // Assert
 
-            assertThat(list).hasSize(1).contains(restaurant);
-            verify(port, times(1)).findAllBy(any(), isNull(), isNull());
+            assertThat(list.clients()).hasSize(1).contains(restaurant);
+            verify(port, times(1)).findAllBy(eq(criteria), any(Pagination.class));
 
         }
 
@@ -189,16 +278,18 @@ class ManageRestaurantServiceTest {
                 add(restaurant);
             }};
 
-            when(port.findAllBy(isNull(), anyString(), isNull())).thenReturn(restaurants);
+            var criteria = new SearchCriteria(null, "Rua JoseDaCosta", null, null);
+
+            when(port.findAllBy(eq(criteria), any(Pagination.class))).thenReturn(new ClientPage(restaurants, null));
 
             // Act
 
-            var list = service.findAllBy(null, "Rua JoseDaCosta", null);
+            var list = service.findAllBy(criteria, Pagination.first());
 
             // Assert
 
-            assertThat(list).hasSize(1).contains(restaurant);
-            verify(port, times(1)).findAllBy(isNull(), anyString(), isNull());
+            assertThat(list.clients()).hasSize(1).contains(restaurant);
+            verify(port, times(1)).findAllBy(eq(criteria), any(Pagination.class));
         }
 
         @Test
@@ -215,16 +306,18 @@ class ManageRestaurantServiceTest {
                 add(Cuisine.BRAZILIAN);
             }};
 
-            when(port.findAllBy(isNull(), isNull(), anyList())).thenReturn(restaurants);
+            var criteria = new SearchCriteria(null, null, cuisines, null);
+
+            when(port.findAllBy(eq(criteria), any(Pagination.class))).thenReturn(new ClientPage(restaurants, null));
 
             // Act
 
-            var list = service.findAllBy(null, null, cuisines);
+            var list = service.findAllBy(criteria, Pagination.first());
 
             // Assert
 
-            assertThat(list).hasSize(1).contains(restaurant);
-            verify(port, times(1)).findAllBy(isNull(), isNull(), anyList());
+            assertThat(list.clients()).hasSize(1).contains(restaurant);
+            verify(port, times(1)).findAllBy(eq(criteria), any(Pagination.class));
         }
 
         @Test
@@ -232,12 +325,14 @@ class ManageRestaurantServiceTest {
 
             // Arrange
 
-            when(port.findAllBy(anyString(), isNull(), isNull())).thenReturn(new ArrayList<Client>());
+            var criteria = new SearchCriteria("Oba Oba", null, null, null);
+
+            when(port.findAllBy(eq(criteria), any(Pagination.class))).thenReturn(new ClientPage(new ArrayList<>(), null));
 
             // Act
 
             assertThatThrownBy(() -> {
-                service.findAllBy("Oba Oba", null, null);
+                service.findAllBy(criteria, Pagination.first());
             })
                     .isInstanceOf(RestaurantNotFoundException.class)
                     .hasMessage("Restaurante(s) não existe!")
@@ -245,7 +340,7 @@ class ManageRestaurantServiceTest {
 
             // Assert
 
-            verify(port, times(1)).findAllBy(anyString(), isNull(), isNull());
+            verify(port, times(1)).findAllBy(eq(criteria), any(Pagination.class));
 
         }
 
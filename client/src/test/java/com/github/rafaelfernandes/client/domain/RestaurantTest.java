@@ -1,6 +1,8 @@
 package com.github.rafaelfernandes.client.domain;
 
 import com.github.rafaelfernandes.client.application.domain.model.Client;
+import com.github.rafaelfernandes.client.application.domain.model.WeeklySchedule;
+import com.github.rafaelfernandes.common.id.TimeOrderedUuid;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.ValidationException;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -45,12 +47,12 @@ public class RestaurantTest {
         class RestaurantIdField {
 
             @ParameterizedTest
-            @ValueSource(strings = {"", "invalid-uuid"})
+            @ValueSource(strings = {"", "invalid-uuid", "31d5dbb8-0fa1-42ce-ed0b-cf094e028b84"})
             @NullSource
             void validateInvalidRestaurandId(String restaurantId){
 
                 assertThatCode(() -> {
-                    new Client.RestaurantId(restaurantId);
+                    Client.RestaurantId.of(restaurantId);
                 })
                         .isInstanceOf(ConstraintViolationException.class)
                         .hasMessageContaining("id: O campo deve ser do tipo UUID");
@@ -59,9 +61,41 @@ public class RestaurantTest {
             @Test
             void validateSuccessRestaurantId(){
                 var uuid = "31d5dbb8-0fa1-42ce-bd0b-cf094e028b84";
-                var restaurantId = new Client.RestaurantId(uuid);
+                var restaurantId = Client.RestaurantId.of(uuid);
 
-                assertThat(restaurantId.id()).isEqualTo(uuid);
+                assertThat(restaurantId.id()).isEqualTo(UUID.fromString(uuid));
+
+            }
+
+            @ParameterizedTest
+            @ValueSource(strings = {"31d5dbb8-0fa1-42ce-cd0b-cf094e028b84", "31d5dbb8-0fa1-42ce-dd0b-cf094e028b84"})
+            void validateVariantTwoRestaurantId(String uuid){
+
+                var restaurantId = Client.RestaurantId.of(uuid);
+
+                assertThat(restaurantId.id()).isEqualTo(UUID.fromString(uuid));
+
+            }
+
+            @Test
+            void validateTimeOrderedRestaurantIds(){
+
+                // Arrange
+                var ids = new ArrayList<UUID>();
+
+                // Act
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(TimeOrderedUuid.next());
+                }
+
+                // Assert
+                assertThat(ids).allSatisfy(id -> {
+                    assertThat(id.version()).isEqualTo(7);
+                    assertThat(id.variant()).isEqualTo(2);
+                    assertThatCode(() -> Client.RestaurantId.of(id.toString())).doesNotThrowAnyException();
+                });
+
+                assertThat(ids.stream().map(UUID::toString).toList()).isSorted().doesNotHaveDuplicates();
 
             }
 
@@ -429,6 +463,35 @@ public class RestaurantTest {
 
                 }
 
+                @Test
+                void validateSecondsRejected(){
+
+                    assertThatCode(() -> {
+                        new Client.OpeningHour(dayOfWeek, LocalTime.of(9, 0), LocalTime.of(22, 0, 30));
+                    })
+                            .isInstanceOf(ValidationException.class)
+                            .hasMessageContaining("Os horários devem ser informados em minutos inteiros, sem segundos")
+                    ;
+
+                    assertThatCode(() -> {
+                        new Client.OpeningHour(dayOfWeek, LocalTime.of(9, 0, 1), LocalTime.of(22, 0));
+                    })
+                            .isInstanceOf(ValidationException.class)
+                    ;
+
+                }
+
+                @Test
+                void validateEndOfDayRoundTrips(){
+
+                    var openingHour = new Client.OpeningHour(dayOfWeek, LocalTime.of(19, 0), LocalTime.MAX);
+
+                    var restored = WeeklySchedule.of(List.of(openingHour)).toOpeningHours();
+
+                    assertThat(restored).containsExactly(openingHour);
+
+                }
+
                 @Test
                 void validateSuccessStartEnd(){
 
@@ -529,7 +592,7 @@ public class RestaurantTest {
             var restaurant = Client.of(restaurantId, name, address, register, openingHours, tables, cuisines);
 
             assertThat(restaurant).isNotNull();
-            assertThat(restaurant.getRestaurantId().id()).isEqualTo(restaurantId);
+            assertThat(restaurant.getRestaurantId().id()).isEqualTo(UUID.fromString(restaurantId));
 
             assertThat(restaurant.getName()).isEqualTo(name);
 
@@ -562,6 +625,40 @@ public class RestaurantTest {
         }
     }
 
+    @Nested
+    class Restore {
+
+        @Test
+        void restoreSkipsValidation() {
+
+            assertThatCode(() -> {
+                Client.Address.restore("Rua", 0, null, "C", "SP", "XX");
+                Client.OpeningHour.restore("HOLIDAY", LocalTime.of(18, 0), LocalTime.of(9, 0));
+                Client.Cuisine.restore("");
+            })
+                    .doesNotThrowAnyException();
+
+        }
+
+        @Test
+        void restoreKeepsValues() {
+
+            var address = Client.Address.restore("Avenida Paulista", 1000, null, "Bela Vista", "São Paulo", "SP");
+
+            assertThat(address).isEqualTo(new Client.Address("Avenida Paulista", 1000, null, "Bela Vista", "São Paulo", "SP"));
+
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"00000000-0000-0000-0000-000000000000", "31D5DBB8-0FA1-42CE-BD0B-CF094E028B84"})
+        void validRestaurantIdInAnyForm(String restaurantId) {
+
+            assertThat(Client.RestaurantId.of(restaurantId).id()).isEqualTo(UUID.fromString(restaurantId));
+
+        }
+
+    }
+
 
 
 
@@ -0,0 +1,112 @@
+package com.github.rafaelfernandes.client.domain;
+
+import com.github.rafaelfernandes.client.application.domain.model.Client;
+import com.github.rafaelfernandes.client.application.domain.model.WeeklySchedule;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WeeklyScheduleTest {
+
+    List<Client.OpeningHour> openingHours = List.of(
+            new Client.OpeningHour("FRIDAY", LocalTime.of(18, 0), LocalTime.of(23, 30)),
+            new Client.OpeningHour("MONDAY", LocalTime.of(11, 0), LocalTime.of(15, 0)),
+            new Client.OpeningHour("MONDAY", LocalTime.of(18, 0), LocalTime.of(22, 0))
+    );
+
+    @Nested
+    class Encoding {
+
+        @Test
+        void roundTripsThroughBytesInWeekOrder(){
+
+            // Arrange
+
+            var schedule = WeeklySchedule.of(openingHours);
+
+            // Act
+
+            var bytes = schedule.toBytes();
+            var restored = WeeklySchedule.fromBytes(bytes);
+
+            // Assert
+
+            assertThat(bytes).hasSize(3 * 4);
+            assertThat(restored).isEqualTo(schedule);
+            assertThat(restored.toOpeningHours()).containsExactly(
+                    openingHours.get(1),
+                    openingHours.get(2),
+                    openingHours.get(0)
+            );
+
+        }
+
+        @Test
+        void roundsStoredSecondsToWholeMinutes(){
+
+            var schedule = WeeklySchedule.of(List.of(
+                    Client.OpeningHour.restore("SUNDAY", LocalTime.of(8, 0, 30), LocalTime.of(23, 59, 59))));
+
+            var openingHour = schedule.toOpeningHours().get(0);
+
+            assertThat(openingHour.getStart()).isEqualTo(LocalTime.of(8, 0));
+            assertThat(openingHour.getEnd()).isEqualTo(LocalTime.MAX);
+            assertThat(schedule.end(0)).isEqualTo(WeeklySchedule.MINUTES_PER_WEEK);
+
+        }
+
+        @Test
+        void emptyScheduleIsClosed(){
+
+            var schedule = WeeklySchedule.fromBytes(WeeklySchedule.of(List.of()).toBytes());
+
+            assertThat(schedule.intervals()).isZero();
+            assertThat(schedule.isOpenAt(0)).isFalse();
+
+        }
+
+    }
+
+    @Nested
+    class Queries {
+
+        WeeklySchedule schedule = WeeklySchedule.of(openingHours);
+
+        @Test
+        void openAtInstant(){
+
+            // 2024-01-01 is a Monday
+            assertThat(schedule.isOpenAt(LocalDateTime.of(2024, 1, 1, 11, 0))).isTrue();
+            assertThat(schedule.isOpenAt(LocalDateTime.of(2024, 1, 1, 14, 59))).isTrue();
+            assertThat(schedule.isOpenAt(LocalDateTime.of(2024, 1, 1, 15, 0))).isFalse();
+            assertThat(schedule.isOpenAt(LocalDateTime.of(2024, 1, 1, 19, 0))).isTrue();
+            assertThat(schedule.isOpenAt(LocalDateTime.of(2024, 1, 2, 12, 0))).isFalse();
+            assertThat(schedule.isOpenAt(LocalDateTime.of(2024, 1, 5, 23, 0))).isTrue();
+
+        }
+
+        @Test
+        void overlapsInterval(){
+
+            var mondayAfternoon = WeeklySchedule.minuteOfWeek(DayOfWeek.MONDAY, LocalTime.of(15, 0));
+            var mondayEvening = WeeklySchedule.minuteOfWeek(DayOfWeek.MONDAY, LocalTime.of(18, 0));
+
+            assertThat(schedule.overlaps(mondayAfternoon, mondayEvening)).isFalse();
+            assertThat(schedule.overlaps(mondayAfternoon, mondayEvening + 1)).isTrue();
+
+            var fridayLunch = WeeklySchedule.of(List.of(
+                    new Client.OpeningHour("FRIDAY", LocalTime.of(11, 0), LocalTime.of(18, 0))));
+
+            assertThat(schedule.overlaps(fridayLunch)).isFalse();
+
+        }
+
+    }
+
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.github.rafaelfernandes.client.adapter.in.web.request.AddressRequest;
 import com.github.rafaelfernandes.client.adapter.in.web.request.ClientRequest;
+import com.github.rafaelfernandes.client.adapter.in.web.request.CuisineRequest;
+import com.github.rafaelfernandes.client.adapter.in.web.request.OpeningHourRequest;
 import com.github.rafaelfernandes.client.application.domain.model.Client;
 import com.github.rafaelfernandes.common.enums.Cuisine;
 import net.datafaker.Faker;
@@ -43,7 +45,7 @@ public class GenerateData {
     public static Client.Address generateAddress() {
         return new Client.Address(
                 faker.address().streetAddress(),
-                Integer.valueOf(faker.address().streetAddressNumber()),
+                faker.number().numberBetween(1, 10000),
                 faker.address().secondaryAddress(),
                 "Centro",
                 faker.address().city(),
@@ -62,11 +64,27 @@ public class GenerateData {
 
     public static AddressRequest generateAddressRequest(){
         return new AddressRequest(faker.address().streetAddress(),
-                Integer.valueOf(faker.address().streetAddressNumber()),
+                faker.number().numberBetween(1, 10000),
                 faker.address().secondaryAddress(),
                 faker.name().lastName(),
                 faker.address().city(),
-                faker.address().stateAbbr()
+                faker.address().stateAbbr(),
+                null,
+                null
+        );
+    }
+
+    public static AddressRequest generateAddressRequest(double latitude, double longitude){
+        var address = generateAddressRequest();
+
+        return new AddressRequest(address.street(),
+                address.number(),
+                address.addittionalDetails(),
+                address.neighborhood(),
+                address.city(),
+                address.state(),
+                latitude,
+                longitude
         );
     }
 